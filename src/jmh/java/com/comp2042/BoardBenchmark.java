@@ -0,0 +1,80 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the per-frame {@link SimpleBoard} queries on realistic boards:
+ * building the {@link ViewData} for the view, which includes the ghost
+ * position, and looking up the next rotation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    @Param({ "EMPTY", "HALF_FILLED", "NEAR_TOPOUT", "TETRIS_READY" })
+    public BoardFixture fixture;
+
+    private SimpleBoard board;
+    private BrickRotator rotator;
+
+    /**
+     * Loads the fixture into a board with a fixed brick sequence.
+     */
+    @Setup
+    public void setUp() {
+        board = new SimpleBoard(new SeededBrickGenerator(2042));
+        board.createNewBrick();
+        board.loadMatrix(fixture.createMatrix());
+
+        rotator = new BrickRotator();
+        rotator.setBrick(new SeededBrickGenerator(2042).getBrick());
+    }
+
+    /**
+     * View data for the current brick, including the ghost position.
+     *
+     * @return the view data.
+     */
+    @Benchmark
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    /**
+     * Next rotation lookup through the copying {@link NextShapeInfo}.
+     *
+     * @return the next shape information.
+     */
+    @Benchmark
+    public NextShapeInfo getNextShape() {
+        return rotator.getNextShape();
+    }
+
+    /**
+     * Next rotation lookup through the shared shape table, as used by the
+     * boards.
+     *
+     * @return the index of the next rotation.
+     */
+    @Benchmark
+    public int getNextShapeIndex() {
+        return rotator.getNextShapeIndex();
+    }
+}
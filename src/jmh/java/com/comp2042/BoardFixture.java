@@ -0,0 +1,121 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Realistic board states used by the benchmarks, each with the brick that
+ * would typically be placed next.
+ * The filled rows are generated from a fixed seed so every run measures the
+ * same boards.
+ */
+public enum BoardFixture {
+
+    /**
+     * Empty board at the start of a game, with a T brick.
+     */
+    EMPTY(0, 0, ShapeTable.T, 0, 3),
+
+    /**
+     * Board with its lower half filled, with a T brick.
+     */
+    HALF_FILLED(Constants.BOARD_HEIGHT / 2, 0, ShapeTable.T, 0, 3),
+
+    /**
+     * Board filled up to just below the spawn area, with an O brick.
+     */
+    NEAR_TOPOUT(Constants.BOARD_HEIGHT - 3, 0, ShapeTable.O, 0, 4),
+
+    /**
+     * Board with four full rows except for a well in the right column, with a
+     * vertical I brick about to clear them.
+     */
+    TETRIS_READY(4, 4, ShapeTable.I, 1, Constants.BOARD_WIDTH - 2);
+
+    private final int stackRows;
+    private final int wellRows;
+    private final int pieceId;
+    private final int rotation;
+    private final int x;
+
+    /**
+     * Constructs a fixture.
+     *
+     * @param stackRows the number of partly filled rows at the bottom.
+     * @param wellRows  the number of rows above the stack that are full except
+     *                  for the right column.
+     * @param pieceId   the id of the brick to place.
+     * @param rotation  the rotation of the brick.
+     * @param x         the column the brick is placed at.
+     */
+    BoardFixture(int stackRows, int wellRows, int pieceId, int rotation, int x) {
+        this.stackRows = stackRows;
+        this.wellRows = wellRows;
+        this.pieceId = pieceId;
+        this.rotation = rotation;
+        this.x = x;
+    }
+
+    /**
+     * Creates a new board matrix for this fixture.
+     * Stack rows have one or two holes so they are never full; well rows are
+     * placed at the bottom, below the stack, which keeps the well open.
+     *
+     * @return the board matrix.
+     */
+    public int[][] createMatrix() {
+        int[][] matrix = new int[Constants.BOARD_HEIGHT][Constants.BOARD_WIDTH];
+        SplittableRandom random = new SplittableRandom(2042);
+        int y = Constants.BOARD_HEIGHT - 1;
+        for (int i = 0; i < wellRows; i++, y--) {
+            for (int col = 0; col < Constants.BOARD_WIDTH - 1; col++) {
+                matrix[y][col] = 1 + random.nextInt(ShapeTable.PIECE_COUNT);
+            }
+        }
+        for (int i = 0; i < stackRows; i++, y--) {
+            for (int col = 0; col < Constants.BOARD_WIDTH; col++) {
+                matrix[y][col] = 1 + random.nextInt(ShapeTable.PIECE_COUNT);
+            }
+            matrix[y][random.nextInt(Constants.BOARD_WIDTH)] = 0;
+            matrix[y][random.nextInt(Constants.BOARD_WIDTH)] = 0;
+            if (wellRows > 0) {
+                matrix[y][Constants.BOARD_WIDTH - 1] = 0;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Gets the shape of the brick to place.
+     *
+     * @return the brick shape.
+     */
+    public PieceShape getShape() {
+        return ShapeTable.getShape(pieceId, rotation);
+    }
+
+    /**
+     * Gets the column the brick is placed at.
+     *
+     * @return the x-coordinate of the brick.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Finds where the brick lands when dropped from the top of the board.
+     *
+     * @param matrix the board matrix.
+     * @return the y-coordinate of the landing position.
+     */
+    public int landingY(int[][] matrix) {
+        int y = Constants.START_Y;
+        while (!MatrixOperations.intersect(matrix, getShape(), x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+}
@@ -0,0 +1,89 @@
+package com.comp2042;
+
+import com.comp2042.ai.HeuristicEvaluator;
+import com.comp2042.ai.SearchBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of scoring a child state in a search: placing the fixture's brick on
+ * a reused {@link SearchBoard}, which updates the features incrementally,
+ * and evaluating it. Rebuilding the board from its rows, which computes every
+ * feature from scratch, is measured for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluatorBenchmark {
+
+    @Param({ "EMPTY", "HALF_FILLED", "NEAR_TOPOUT", "TETRIS_READY" })
+    public BoardFixture fixture;
+
+    private final HeuristicEvaluator evaluator = new HeuristicEvaluator();
+    private SearchBoard parent;
+    private SearchBoard child;
+    private int[] rows;
+    private int landingY;
+
+    /**
+     * Builds the fixture board and finds where its brick lands.
+     */
+    @Setup
+    public void setUp() {
+        int[][] matrix = fixture.createMatrix();
+        parent = SearchBoard.fromMatrix(matrix);
+        child = parent.copy();
+        landingY = fixture.landingY(matrix);
+        rows = new int[parent.getHeight()];
+        for (int y = 0; y < rows.length; y++) {
+            rows[y] = parent.getRow(y);
+        }
+    }
+
+    /**
+     * Incremental path: copy the parent into a scratch board, place the brick
+     * and evaluate.
+     *
+     * @return the score.
+     */
+    @Benchmark
+    public double placeAndEvaluate() {
+        child.copyFrom(parent);
+        int lines = child.place(fixture.getShape(), fixture.getX(), landingY);
+        return evaluator.evaluate(child, lines);
+    }
+
+    /**
+     * Evaluation alone, reading the maintained features.
+     *
+     * @return the score.
+     */
+    @Benchmark
+    public double evaluate() {
+        return evaluator.evaluate(parent, 0);
+    }
+
+    /**
+     * Baseline: compute every feature by scanning the rows, then evaluate.
+     *
+     * @return the score.
+     */
+    @Benchmark
+    public double rescanAndEvaluate() {
+        return evaluator.evaluate(new SearchBoard(rows), 0);
+    }
+}
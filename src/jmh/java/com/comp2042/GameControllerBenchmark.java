@@ -0,0 +1,199 @@
+package com.comp2042;
+
+import com.comp2042.ai.HintEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of the game logic behind {@link GameController}, with the
+ * view and sound replaced by no-op stubs.
+ * {@link #gravityTick()} and {@link #hardDrop()} sample the latency of a
+ * single gravity tick and hard drop, including locking, row clearing, scoring
+ * and spawning, so the report shows their p99. {@link #pieceWithGravity()}
+ * plays a whole brick down by gravity and reports pieces per second.
+ * New bricks are moved to a random column and rotation outside of the
+ * measured region, and a new game starts when the stack tops out.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameControllerBenchmark {
+
+    private static final MoveEvent TICK = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent DROP = new MoveEvent(EventType.DROP, EventSource.USER);
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+
+    private final NoOpView view = new NoOpView();
+    private final SplittableRandom random = new SplittableRandom(2042);
+    private GameController controller;
+    private boolean newBrick;
+
+    /**
+     * View that only remembers whether the game ended.
+     */
+    static final class NoOpView implements GameView {
+        private boolean gameOver;
+
+        @Override
+        public void setEventListener(InputEventListener eventListener) {
+        }
+
+        @Override
+        public void setHintEngine(HintEngine hintEngine) {
+        }
+
+        @Override
+        public void initGameView(int[][] boardMatrix, ViewData brick) {
+        }
+
+        @Override
+        public void refreshGameBackground(int[][] board) {
+        }
+
+        @Override
+        public void updateScore(int score) {
+        }
+
+        @Override
+        public void updateLevel(int level, double speed) {
+        }
+
+        @Override
+        public void gameOver() {
+            gameOver = true;
+        }
+    }
+
+    /**
+     * Sound system that plays nothing.
+     */
+    static final class NoOpSounds implements SoundPlayer {
+        @Override
+        public void playHardDrop(int column) {
+        }
+
+        @Override
+        public void playLineClear(int lines) {
+        }
+
+        @Override
+        public void playGameOver() {
+        }
+
+        @Override
+        public void playHold() {
+        }
+
+        @Override
+        public void stopAllSounds() {
+        }
+
+        @Override
+        public void playBackgroundMusic() {
+        }
+
+        @Override
+        public void stopBackgroundMusic() {
+        }
+
+        @Override
+        public void cleanup() {
+        }
+    }
+
+    /**
+     * Creates the controller with a fixed seed.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        controller = new GameController(view, new NoOpSounds(), 2042);
+        newBrick = true;
+    }
+
+    /**
+     * Starts a new game after a top out, and moves a newly spawned brick to a
+     * random column and rotation.
+     */
+    @Setup(Level.Invocation)
+    public void prepareBrick() {
+        if (view.gameOver) {
+            view.gameOver = false;
+            controller.createNewGame();
+            newBrick = true;
+        }
+        if (newBrick) {
+            newBrick = false;
+            for (int i = random.nextInt(4); i > 0; i--) {
+                controller.onRotateEvent(ROTATE);
+            }
+            int shift = random.nextInt(-5, 6);
+            for (int i = shift; i < 0; i++) {
+                controller.onLeftEvent(LEFT);
+            }
+            for (int i = shift; i > 0; i--) {
+                controller.onRightEvent(RIGHT);
+            }
+        }
+    }
+
+    /**
+     * One gravity tick, which moves the brick down or locks it, clears rows
+     * and spawns the next brick.
+     *
+     * @return the state after the tick.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public DownData gravityTick() {
+        DownData downData = controller.onDownEvent(TICK);
+        newBrick = downData.getClearRow() != null;
+        return downData;
+    }
+
+    /**
+     * One hard drop, which locks the brick, clears rows and spawns the next
+     * brick.
+     *
+     * @return the state after the drop.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public DownData hardDrop() {
+        newBrick = true;
+        return controller.onDropEvent(DROP);
+    }
+
+    /**
+     * One brick falling by gravity ticks until it locks.
+     *
+     * @return the state after the brick locked.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public DownData pieceWithGravity() {
+        DownData downData;
+        do {
+            downData = controller.onDownEvent(TICK);
+        } while (downData.getClearRow() == null);
+        newBrick = true;
+        return downData;
+    }
+}
@@ -0,0 +1,114 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.PieceShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link MatrixOperations} primitives on realistic boards.
+ * The brick of each fixture is tested at its landing position, where the
+ * collision checks do the most work. Run with {@code -prof gc} to see the
+ * allocation rate of each operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    @Param({ "EMPTY", "HALF_FILLED", "NEAR_TOPOUT", "TETRIS_READY" })
+    public BoardFixture fixture;
+
+    private int[][] matrix;
+    private int[][] lockedMatrix;
+    private PieceShape shape;
+    private int[][] shapeMatrix;
+    private int x;
+    private int y;
+
+    /**
+     * Builds the board and places the fixture's brick at its landing position.
+     */
+    @Setup
+    public void setUp() {
+        matrix = fixture.createMatrix();
+        shape = fixture.getShape();
+        shapeMatrix = shape.toMatrix();
+        x = fixture.getX();
+        y = fixture.landingY(matrix);
+        lockedMatrix = MatrixOperations.merge(matrix, shape, x, y);
+    }
+
+    /**
+     * Collision check with a shape matrix.
+     *
+     * @return whether the brick collides.
+     */
+    @Benchmark
+    public boolean intersectMatrix() {
+        return MatrixOperations.intersect(matrix, shapeMatrix, x, y);
+    }
+
+    /**
+     * Collision check with a precomputed shape.
+     *
+     * @return whether the brick collides.
+     */
+    @Benchmark
+    public boolean intersectShape() {
+        return MatrixOperations.intersect(matrix, shape, x, y);
+    }
+
+    /**
+     * Copying merge with a shape matrix.
+     *
+     * @return the merged board.
+     */
+    @Benchmark
+    public int[][] mergeMatrix() {
+        return MatrixOperations.merge(matrix, shapeMatrix, x, y);
+    }
+
+    /**
+     * Copying merge with a precomputed shape.
+     *
+     * @return the merged board.
+     */
+    @Benchmark
+    public int[][] mergeShape() {
+        return MatrixOperations.merge(matrix, shape, x, y);
+    }
+
+    /**
+     * Row clearing of the board after the brick locked.
+     *
+     * @return the cleared row information.
+     */
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(lockedMatrix);
+    }
+
+    /**
+     * Deep copy of the board.
+     *
+     * @return the copy.
+     */
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+}
@@ -0,0 +1,345 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of the {@link Board} interface that stores the playfield as
+ * one bitmask per row.
+ * Collision, merge and full-row detection are done with bitwise operations on
+ * the row masks. A parallel color matrix is kept only for rendering.
+ */
+public class BitBoard implements Board {
+
+    private final int width = Constants.BOARD_WIDTH;
+    private final int height = Constants.BOARD_HEIGHT;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final int[] rows;
+    private int[][] colorMatrix;
+    private int brickX;
+    private int brickY;
+    private final Score score;
+    private Brick heldBrick;
+    private boolean hasHeldThisTurn;
+    private int[] packedRows;
+
+    /**
+     * Creates a new bitboard with the standard width and height.
+     * Initializes the row masks, color matrix, brick generator, rotator, and
+     * score system.
+     */
+    public BitBoard() {
+        this(new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a new bitboard that takes its bricks from the given generator.
+     *
+     * @param brickGenerator the source of new bricks.
+     */
+    public BitBoard(BrickGenerator brickGenerator) {
+        rows = new int[height];
+        colorMatrix = new int[height][width];
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score();
+    }
+
+    /**
+     * Creates a new falling brick at the starting position.
+     *
+     * @return true if the brick immediately collides (meaning game over)
+     */
+    private boolean spawnBrick() {
+        Brick newBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(newBrick);
+        hasHeldThisTurn = false;
+        resetPosition();
+        return RowMasks.intersects(rows, brickRotator.getCurrentShape(), brickX, brickY);
+    }
+
+    /**
+     * Places the brick currently set on the rotator at the centered starting
+     * position.
+     */
+    private void resetPosition() {
+        int brickWidth = brickRotator.getCurrentShape().getSize();
+        brickX = (width - brickWidth) / 2;
+        brickY = Constants.START_Y;
+    }
+
+    /**
+     * Attempts to move the active brick by a given horizontal/vertical offset.
+     *
+     * @param dx the change in X position
+     * @param dy the change in Y position
+     * @return true if the move is valid and applied; false if blocked
+     */
+    private boolean tryMove(int dx, int dy) {
+        if (RowMasks.intersects(rows, brickRotator.getCurrentShape(), brickX + dx, brickY + dy)) {
+            return false;
+        }
+        brickX += dx;
+        brickY += dy;
+        return true;
+    }
+
+    /**
+     * Attempts to move the falling brick one cell downward.
+     *
+     * @return true if movement succeeds; false if blocked by collision
+     */
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(0, 1);
+    }
+
+    /**
+     * Attempts to move the falling brick one cell to the left.
+     *
+     * @return true if movement succeeds; false if collision prevents movement
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(-1, 0);
+    }
+
+    /**
+     * Attempts to move the falling brick one cell to the right.
+     *
+     * @return true if movement succeeds; false if collision prevents movement
+     */
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(1, 0);
+    }
+
+    /**
+     * Drops the falling brick straight down to its landing position.
+     *
+     * @return the number of rows the brick dropped
+     */
+    @Override
+    public int dropBrick() {
+        int landingY = RowMasks.dropY(rows, brickRotator.getCurrentShape(), brickX, brickY);
+        int distance = landingY - brickY;
+        brickY = landingY;
+        return distance;
+    }
+
+    /**
+     * Attempts to rotate the falling brick to the left.
+     *
+     * @return true if rotation succeeds; false if collision prevents rotation
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextShape = brickRotator.getNextShapeIndex();
+        if (RowMasks.intersects(rows, brickRotator.getShape(nextShape), brickX, brickY)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(nextShape);
+        return true;
+    }
+
+    /**
+     * Public-facing method used by the game controller to spawn a new brick.
+     *
+     * @return true if spawning the brick results in an immediate collision
+     */
+    @Override
+    public boolean createNewBrick() {
+        return spawnBrick();
+    }
+
+    /**
+     * Holds the current brick. If a brick is already held, swaps it with the
+     * current one.
+     *
+     * @return true if the brick was successfully held/swapped, false if a hold
+     *         action occurred this turn.
+     */
+    @Override
+    public boolean holdBrick() {
+        if (hasHeldThisTurn) {
+            return false;
+        }
+
+        Brick currentBrick = brickRotator.getBrick();
+
+        if (heldBrick == null) {
+            heldBrick = currentBrick;
+            spawnBrick();
+        } else {
+            Brick temp = heldBrick;
+            heldBrick = currentBrick;
+            brickRotator.setBrick(temp);
+            resetPosition();
+        }
+        hasHeldThisTurn = true;
+        return true;
+    }
+
+    /**
+     * Gets the color matrix of the board, used for rendering.
+     *
+     * @return the 2D integer array representing the board.
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return colorMatrix;
+    }
+
+    /**
+     * Generates the view data for the current game state, including brick position,
+     * ghost position, and next/held bricks.
+     *
+     * @return the ViewData object.
+     */
+    @Override
+    public ViewData getViewData() {
+        PieceShape shape = brickRotator.getCurrentShape();
+        return new ViewData(shape, brickX, brickY,
+                RowMasks.dropY(rows, shape, brickX, brickY),
+                brickGenerator.getNextBrick().getShapes().get(0),
+                heldBrick != null ? heldBrick.getShapes().get(0) : null);
+    }
+
+    /**
+     * Locks the current falling brick into the row masks and the color matrix.
+     */
+    @Override
+    public void lockBrickToBoard() {
+        PieceShape shape = brickRotator.getCurrentShape();
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            rows[brickY + r] |= RowMasks.shift(shape.getRowMask(r), brickX);
+        }
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = shape.getCellRow(i);
+            int col = shape.getCellCol(i);
+            colorMatrix[brickY + row][brickX + col] = shape.getCell(row, col);
+        }
+        packedRows = null;
+    }
+
+    /**
+     * Removes every full row and shifts the rows above it downward.
+     * Cleared color rows are reused as the new empty rows at the top.
+     *
+     * @return a ClearRow object containing the number of removed rows,
+     *         the color matrix, and the score bonus earned.
+     */
+    @Override
+    public ClearRow clearRows() {
+        List<Integer> clearedRows = new ArrayList<>();
+        for (int i = 0; i < height; i++) {
+            if (rows[i] == RowMasks.FULL_ROW) {
+                clearedRows.add(i);
+            }
+        }
+        if (!clearedRows.isEmpty()) {
+            int[][] newColors = new int[height][];
+            int target = height - 1;
+            for (int i = height - 1; i >= 0; i--) {
+                if (rows[i] != RowMasks.FULL_ROW) {
+                    rows[target] = rows[i];
+                    newColors[target] = colorMatrix[i];
+                    target--;
+                }
+            }
+            int reused = 0;
+            for (; target >= 0; target--) {
+                rows[target] = 0;
+                int[] row = colorMatrix[clearedRows.get(reused++)];
+                Arrays.fill(row, 0);
+                newColors[target] = row;
+            }
+            colorMatrix = newColors;
+            packedRows = null;
+        }
+        int lines = clearedRows.size();
+        return new ClearRow(lines, colorMatrix, 50 * lines * lines, clearedRows);
+    }
+
+    /**
+     * Gets the score object tracking the game score.
+     *
+     * @return the Score object.
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Resets the game state by clearing the board, resetting the score,
+     * and spawning a new brick at the top of the board.
+     */
+    @Override
+    public void newGame() {
+        Arrays.fill(rows, 0);
+        colorMatrix = new int[height][width];
+        packedRows = null;
+        score.reset();
+        heldBrick = null;
+        hasHeldThisTurn = false;
+        createNewBrick();
+    }
+
+    /**
+     * Saves the full state of the board. The packed rows are reused while no
+     * brick was locked since the previous snapshot.
+     *
+     * @return the snapshot.
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        if (packedRows == null) {
+            packedRows = BoardSnapshot.pack(colorMatrix);
+        }
+        return new BoardSnapshot(packedRows, brickRotator.getCurrentShape().getPieceId(),
+                brickRotator.getCurrentShapeIndex(), brickX, brickY,
+                heldBrick != null ? heldBrick.getShapes().get(0).getPieceId() : 0, hasHeldThisTurn,
+                brickGenerator.saveState(), score.getValue());
+    }
+
+    /**
+     * Restores a saved state. The cells are only rewritten if they differ from
+     * the snapshot's, which is the case once a brick was locked.
+     *
+     * @param snapshot the snapshot to restore.
+     */
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        if (snapshot.getPackedRows() != packedRows) {
+            snapshot.unpackInto(colorMatrix);
+            for (int y = 0; y < height; y++) {
+                int mask = 0;
+                for (int x = 0; x < width; x++) {
+                    if (colorMatrix[y][x] != 0) {
+                        mask |= 1 << x;
+                    }
+                }
+                rows[y] = mask;
+            }
+            packedRows = snapshot.getPackedRows();
+        }
+        brickRotator.setBrick(ShapeTable.getBrick(snapshot.getPieceId()));
+        brickRotator.setCurrentShape(snapshot.getRotation());
+        brickX = snapshot.getX();
+        brickY = snapshot.getY();
+        heldBrick = snapshot.getHeldPieceId() != 0 ? ShapeTable.getBrick(snapshot.getHeldPieceId()) : null;
+        hasHeldThisTurn = snapshot.isHeldThisTurn();
+        brickGenerator.restoreState(snapshot.getGeneratorState());
+        score.reset();
+        score.add(snapshot.getScore());
+    }
+}
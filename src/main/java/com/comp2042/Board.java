@@ -34,6 +34,13 @@ public interface Board {
      */
     boolean rotateLeftBrick();
 
+    /**
+     * Moves the current brick straight down to its landing position.
+     *
+     * @return the number of rows the brick dropped.
+     */
+    int dropBrick();
+
     /**
      * Swaps the current brick with the held brick.
      *
@@ -87,4 +94,19 @@ public interface Board {
      * Resets the board for a new game.
      */
     void newGame();
+
+    /**
+     * Saves the full state of the board: cells, active brick, held brick,
+     * brick generator and score.
+     *
+     * @return the snapshot.
+     */
+    BoardSnapshot snapshot();
+
+    /**
+     * Restores a state saved by {@link #snapshot()}.
+     *
+     * @param snapshot the snapshot to restore.
+     */
+    void restore(BoardSnapshot snapshot);
 }
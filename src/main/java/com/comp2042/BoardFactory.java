@@ -0,0 +1,65 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Factory for creating the {@link Board} engine used by the game.
+ * The engine is chosen with the {@code tetris.board} system property, so it
+ * can be switched without changing the controller, e.g.
+ * {@code -Dtetris.board=bitboard}.
+ */
+public final class BoardFactory {
+
+    /**
+     * System property naming the board engine to use.
+     */
+    public static final String ENGINE_PROPERTY = "tetris.board";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BoardFactory() {
+
+    }
+
+    /**
+     * Creates the board engine selected by the {@code tetris.board} system
+     * property. Defaults to {@link SimpleBoard}.
+     *
+     * @return a new Board instance.
+     */
+    public static Board create() {
+        return create(new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates the board engine selected by the {@code tetris.board} system
+     * property, taking bricks from the given generator.
+     *
+     * @param brickGenerator the source of new bricks.
+     * @return a new Board instance.
+     */
+    public static Board create(BrickGenerator brickGenerator) {
+        return create(System.getProperty(ENGINE_PROPERTY, "simple"), brickGenerator);
+    }
+
+    /**
+     * Creates the board engine with the given name.
+     *
+     * @param engine         the engine name, either "simple" or "bitboard".
+     * @param brickGenerator the source of new bricks.
+     * @return a new Board instance.
+     * @throws IllegalArgumentException if the engine name is unknown.
+     */
+    public static Board create(String engine, BrickGenerator brickGenerator) {
+        switch (engine.toLowerCase()) {
+            case "simple":
+                return new SimpleBoard(brickGenerator);
+            case "bitboard":
+                return new BitBoard(brickGenerator);
+            default:
+                throw new IllegalArgumentException("Unknown board engine: " + engine);
+        }
+    }
+}
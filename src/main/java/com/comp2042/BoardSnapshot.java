@@ -0,0 +1,178 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.GeneratorState;
+
+/**
+ * Immutable saved state of a {@link Board}, taken with {@link Board#snapshot()}
+ * and applied with {@link Board#restore(BoardSnapshot)}.
+ * The board cells are packed 3 bits each into one int per row. The packed rows
+ * are never modified, so snapshots taken while the settled cells did not
+ * change share the same array, and restoring such a snapshot skips rewriting
+ * the board.
+ */
+public final class BoardSnapshot {
+
+    private static final int BITS_PER_CELL = 3;
+    private static final int CELL_MASK = (1 << BITS_PER_CELL) - 1;
+
+    private final int[] rows;
+    private final int pieceId;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final int heldPieceId;
+    private final boolean heldThisTurn;
+    private final GeneratorState generatorState;
+    private final int score;
+
+    /**
+     * Constructs a new BoardSnapshot.
+     *
+     * @param rows           the packed board rows, see {@link #pack(int[][])}.
+     * @param pieceId        the id of the active brick.
+     * @param rotation       the rotation index of the active brick.
+     * @param x              the x-coordinate of the active brick.
+     * @param y              the y-coordinate of the active brick.
+     * @param heldPieceId    the id of the held brick, or 0 if none is held.
+     * @param heldThisTurn   whether hold was already used for the active brick.
+     * @param generatorState the state of the brick generator.
+     * @param score          the score.
+     */
+    BoardSnapshot(int[] rows, int pieceId, int rotation, int x, int y, int heldPieceId, boolean heldThisTurn,
+            GeneratorState generatorState, int score) {
+        this.rows = rows;
+        this.pieceId = pieceId;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.heldPieceId = heldPieceId;
+        this.heldThisTurn = heldThisTurn;
+        this.generatorState = generatorState;
+        this.score = score;
+    }
+
+    /**
+     * Packs a board matrix into one int per row, 3 bits per cell.
+     *
+     * @param matrix the board matrix.
+     * @return the packed rows.
+     */
+    static int[] pack(int[][] matrix) {
+        int[] packed = new int[matrix.length];
+        for (int row = 0; row < matrix.length; row++) {
+            int value = 0;
+            for (int col = matrix[row].length - 1; col >= 0; col--) {
+                value = (value << BITS_PER_CELL) | matrix[row][col];
+            }
+            packed[row] = value;
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks the board rows into an existing matrix.
+     *
+     * @param matrix the matrix to overwrite, with the board's dimensions.
+     */
+    void unpackInto(int[][] matrix) {
+        for (int row = 0; row < matrix.length; row++) {
+            int value = rows[row];
+            for (int col = 0; col < matrix[row].length; col++) {
+                matrix[row][col] = value & CELL_MASK;
+                value >>>= BITS_PER_CELL;
+            }
+        }
+    }
+
+    /**
+     * Gets the packed board rows. The array must not be modified.
+     *
+     * @return the packed rows.
+     */
+    int[] getPackedRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the color of a board cell.
+     *
+     * @param x the column.
+     * @param y the row.
+     * @return the color index, or 0 if the cell is empty.
+     */
+    public int getCell(int x, int y) {
+        return (rows[y] >>> (x * BITS_PER_CELL)) & CELL_MASK;
+    }
+
+    /**
+     * Gets the id of the active brick.
+     *
+     * @return the piece id (1-7).
+     */
+    public int getPieceId() {
+        return pieceId;
+    }
+
+    /**
+     * Gets the rotation index of the active brick.
+     *
+     * @return the rotation index.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the x-coordinate of the active brick.
+     *
+     * @return the x position.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y-coordinate of the active brick.
+     *
+     * @return the y position.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the id of the held brick.
+     *
+     * @return the piece id, or 0 if no brick is held.
+     */
+    public int getHeldPieceId() {
+        return heldPieceId;
+    }
+
+    /**
+     * Checks if hold was already used for the active brick.
+     *
+     * @return true if the brick cannot be held again.
+     */
+    public boolean isHeldThisTurn() {
+        return heldThisTurn;
+    }
+
+    /**
+     * Gets the saved state of the brick generator.
+     *
+     * @return the generator state.
+     */
+    public GeneratorState getGeneratorState() {
+        return generatorState;
+    }
+
+    /**
+     * Gets the score.
+     *
+     * @return the score.
+     */
+    public int getScore() {
+        return score;
+    }
+}
@@ -1,6 +1,9 @@
 package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceShape;
+
+import java.util.List;
 
 /**
  * Logic class responsible for handling brick rotation.
@@ -9,6 +12,7 @@ import com.comp2042.logic.bricks.Brick;
 public class BrickRotator {
 
     private Brick brick;
+    private List<PieceShape> shapes;
     private int currentShape = 0;
 
     /**
@@ -18,18 +22,45 @@ public class BrickRotator {
      *         rotation index.
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextShapeIndex();
+        return new NextShapeInfo(shapes.get(nextShape), nextShape);
+    }
+
+    /**
+     * Gets the rotation index that the next rotation would move to.
+     *
+     * @return the index of the next rotation state.
+     */
+    public int getNextShapeIndex() {
+        return (currentShape + 1) % shapes.size();
+    }
+
+    /**
+     * Gets the shared shape of a rotation state.
+     *
+     * @param index the index of the rotation state.
+     * @return the read-only shape of that rotation.
+     */
+    public PieceShape getShape(int index) {
+        return shapes.get(index);
+    }
+
+    /**
+     * Gets the shared shape of the current rotation state.
+     *
+     * @return the read-only shape of the current rotation.
+     */
+    public PieceShape getCurrentShape() {
+        return shapes.get(currentShape);
     }
 
     /**
-     * Gets the matrix of the current shape.
+     * Gets the current shape orientation index.
      *
-     * @return the 2D array representing the current rotation of the brick.
+     * @return the index of the rotation state.
      */
-    public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+    public int getCurrentShapeIndex() {
+        return currentShape;
     }
 
     /**
@@ -48,6 +79,7 @@ public class BrickRotator {
      */
     public void setBrick(Brick brick) {
         this.brick = brick;
+        shapes = brick.getShapes();
         currentShape = 0;
     }
 
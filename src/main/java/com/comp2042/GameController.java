@@ -1,15 +1,44 @@
 package com.comp2042;
 
+import com.comp2042.ai.AutoPlayer;
+import com.comp2042.ai.HeuristicEvaluator;
+import com.comp2042.ai.HintEngine;
+import com.comp2042.ai.MonteCarloPlanner;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.replay.RecordingInputListener;
+import com.comp2042.replay.ReplayWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
 /**
- * Controller class that manages the core game logic and interaction between the
- * model (Board) and the view (GuiController).
- * implements {@link InputEventListener} to handle user input events.
+ * Controller class that connects the headless {@link GameEngine} to the view
+ * (GuiController) and the sound system.
+ * implements {@link InputEventListener} to forward user input to the engine,
+ * and {@link GameListener} to present engine events.
+ * Every game is seeded so it can be recorded and replayed. Setting the
+ * {@code tetris.replay.dir} system property records the session's input to a
+ * replay file in that directory. Setting {@code tetris.autoplay} to
+ * {@code true} lets an {@link AutoPlayer} play the game with a beam search,
+ * and setting it to {@code montecarlo} with Monte Carlo rollouts. Placement
+ * hints from a {@link HintEngine} can be toggled in the view, and setting
+ * {@code tetris.hints} to {@code true} turns them on from the start.
  */
-public class GameController implements InputEventListener {
+public class GameController implements InputEventListener, GameListener {
+
+    private static final String REPLAY_DIR_PROPERTY = "tetris.replay.dir";
+    private static final String AUTOPLAY_PROPERTY = "tetris.autoplay";
+    private static final String HINTS_PROPERTY = "tetris.hints";
 
-    private Board board = new SimpleBoard();
-    private final GuiController viewGuiController;
-    private final SoundManager soundManager;
+    private final SplittableRandom seeds;
+    private final SeededBrickGenerator brickGenerator;
+    private final GameEngine engine;
+    private final GameView viewGuiController;
+    private final SoundPlayer soundManager;
 
     /**
      * Constructs a new GameController.
@@ -18,20 +47,89 @@ public class GameController implements InputEventListener {
      * @param c the GuiController instance to control the view.
      */
     public GameController(GuiController c) {
-        viewGuiController = c;
-        soundManager = new SoundManager();
-        board.createNewBrick();
-        viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
+        this(c, new SoundManager(), new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a new GameController with the given view and sound system,
+     * e.g. no-op stubs for headless benchmarks.
+     *
+     * @param view   the view presenting the game.
+     * @param sounds the sound system.
+     * @param seed   the seed from which the seed of every game is drawn.
+     */
+    GameController(GameView view, SoundPlayer sounds, long seed) {
+        viewGuiController = view;
+        soundManager = sounds;
+        seeds = new SplittableRandom(seed);
+        brickGenerator = new SeededBrickGenerator(seeds.nextLong());
+        engine = new GameEngine(BoardFactory.create(brickGenerator));
+        engine.addListener(this);
+        engine.start();
+        viewGuiController.setEventListener(createInputListener());
+        viewGuiController.initGameView(engine.getBoard().getBoardMatrix(), engine.getBoard().getViewData());
+        viewGuiController.updateScore(engine.getBoard().getScore().getValue());
         soundManager.playBackgroundMusic(); // Start BGM
     }
 
+    /**
+     * Creates the listener receiving the view's input: this controller, wrapped
+     * in a recorder if replay recording is enabled, in the hint engine shared
+     * with the view, and in an auto player if autoplay is enabled.
+     *
+     * @return the input listener for the view.
+     */
+    private InputEventListener createInputListener() {
+        HintEngine hints = new HintEngine(createRecordingListener(), engine.getBoard());
+        hints.setEnabled(Boolean.getBoolean(HINTS_PROPERTY));
+        viewGuiController.setHintEngine(hints);
+        InputEventListener listener = hints;
+        String autoplay = System.getProperty(AUTOPLAY_PROPERTY);
+        if ("montecarlo".equalsIgnoreCase(autoplay)) {
+            ForkJoinPool pool = new ForkJoinPool();
+            return new AutoPlayer(listener, engine.getBoard(), new MonteCarloPlanner(new HeuristicEvaluator(),
+                    MonteCarloPlanner.DEFAULT_ROLLOUT_LENGTH, pool), pool, AutoPlayer.DEFAULT_DEPTH,
+                    AutoPlayer.DEFAULT_BUDGET_NANOS);
+        }
+        if (Boolean.parseBoolean(autoplay)) {
+            return new AutoPlayer(listener, engine.getBoard());
+        }
+        return listener;
+    }
+
+    /**
+     * Creates the listener that forwards input to this controller, wrapped in
+     * a recorder if replay recording is enabled.
+     *
+     * @return the possibly recording listener.
+     */
+    private InputEventListener createRecordingListener() {
+        String dir = System.getProperty(REPLAY_DIR_PROPERTY);
+        if (dir == null) {
+            return this;
+        }
+        try {
+            Path directory = Files.createDirectories(Paths.get(dir));
+            Path file = directory.resolve("replay-" + System.currentTimeMillis() + ".trpl");
+            return new RecordingInputListener(this, this::getSeed, new ReplayWriter(file));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return this;
+        }
+    }
+
+    /**
+     * Gets the brick generator seed of the current game.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return brickGenerator.getSeed();
+    }
+
     /**
      * Handles the event when the down key is pressed or time tick occurs.
-     * Moves the brick down. If the brick cannot move down, it locks it to the
-     * board, checks for cleared rows,
-     * updates the score, and spawns a new brick.
+     * Timer ticks advance the engine's gravity, key presses soft drop.
      *
      * @param event the move event details.
      * @return the data representing the state after the down move, including
@@ -39,24 +137,10 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        if (!canMove) {
-            board.lockBrickToBoard();
-            clearRow = board.clearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                board.getScore().add(clearRow.getScoreBonus());
-                soundManager.playLineClear(clearRow.getLinesRemoved());
-            }
-            if (board.createNewBrick()) {
-                viewGuiController.gameOver();
-                soundManager.playGameOver();
-            }
-
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-
+        if (event.getEventSource() == EventSource.THREAD) {
+            return engine.tick();
         }
-        return new DownData(clearRow, board.getViewData());
+        return engine.moveDown();
     }
 
     /**
@@ -68,8 +152,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+        return engine.moveLeft();
     }
 
     /**
@@ -81,8 +164,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+        return engine.moveRight();
     }
 
     /**
@@ -94,8 +176,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+        return engine.rotate();
     }
 
     /**
@@ -107,10 +188,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
-        if (board.holdBrick()) {
-            soundManager.playHold();
-        }
-        return board.getViewData();
+        return engine.hold();
     }
 
     /**
@@ -124,40 +202,20 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onDropEvent(MoveEvent event) {
-        boolean canMove = true;
-        while (canMove) {
-            canMove = board.moveBrickDown();
-        }
-
-        int column = board.getViewData().getxPosition();
-        soundManager.playHardDrop(column);
-
-        board.lockBrickToBoard();
-        ClearRow clearRow = board.clearRows();
-        if (clearRow.getLinesRemoved() > 0) {
-            board.getScore().add(clearRow.getScoreBonus());
-            soundManager.playLineClear(clearRow.getLinesRemoved());
-        }
-        if (board.createNewBrick()) {
-            viewGuiController.gameOver();
-            soundManager.playGameOver();
-        }
-
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-
-        return new DownData(clearRow, board.getViewData());
+        return engine.hardDrop();
     }
 
     /**
-     * Starts a new game by resetting the board and playing the background music.
+     * Starts a new game with a new seed by resetting the board and playing the
+     * background music.
      */
     @Override
     public void createNewGame() {
         soundManager.stopAllSounds();
         soundManager.stopBackgroundMusic(); // Ensure stopped
         soundManager.playBackgroundMusic(); // Restart BGM
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        brickGenerator.reset(seeds.nextLong());
+        engine.newGame();
     }
 
     /**
@@ -169,4 +227,72 @@ public class GameController implements InputEventListener {
         soundManager.stopBackgroundMusic();
         soundManager.cleanup();
     }
+
+    /**
+     * Redraws the board background after the engine changed it.
+     *
+     * @param boardMatrix the current board matrix.
+     */
+    @Override
+    public void onBoardChanged(int[][] boardMatrix) {
+        viewGuiController.refreshGameBackground(boardMatrix);
+    }
+
+    /**
+     * Plays the chord for the number of cleared rows.
+     *
+     * @param clearRow the details of the cleared rows.
+     */
+    @Override
+    public void onRowsCleared(ClearRow clearRow) {
+        soundManager.playLineClear(clearRow.getLinesRemoved());
+    }
+
+    /**
+     * Shows the new score.
+     *
+     * @param score the new score.
+     */
+    @Override
+    public void onScoreChanged(int score) {
+        viewGuiController.updateScore(score);
+    }
+
+    /**
+     * Updates the level display and the gravity timer.
+     *
+     * @param level         the new level.
+     * @param gravityMillis the delay between gravity ticks.
+     */
+    @Override
+    public void onLevelChanged(int level, double gravityMillis) {
+        viewGuiController.updateLevel(level, gravityMillis);
+    }
+
+    /**
+     * Plays the hard drop sound for the drop column.
+     *
+     * @param column the x position of the dropped brick.
+     */
+    @Override
+    public void onHardDrop(int column) {
+        soundManager.playHardDrop(column);
+    }
+
+    /**
+     * Plays the hold sound.
+     */
+    @Override
+    public void onHold() {
+        soundManager.playHold();
+    }
+
+    /**
+     * Shows the game over screen and plays the game over sound.
+     */
+    @Override
+    public void onGameOver() {
+        viewGuiController.gameOver();
+        soundManager.playGameOver();
+    }
 }
@@ -0,0 +1,301 @@
+package com.comp2042;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless game engine that applies the game rules to a {@link Board}.
+ * Handles movement, gravity ticks, locking, row clearing, scoring and level
+ * progression without depending on JavaFX, so it can be driven by the GUI
+ * or by a batch runner. Interested parties subscribe as {@link GameListener}s.
+ */
+public class GameEngine {
+
+    private final Board board;
+    private final List<GameListener> listeners = new ArrayList<>();
+    private int level = 1;
+    private boolean gameOver;
+    private long ticks;
+    private int piecesPlaced;
+    private int linesCleared;
+
+    /**
+     * Constructs a new GameEngine around the given board.
+     *
+     * @param board the board holding the game state.
+     */
+    public GameEngine(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Registers a listener for game events.
+     *
+     * @param listener the listener to add.
+     */
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Spawns the first brick of the game held by the board.
+     */
+    public void start() {
+        gameOver = board.createNewBrick();
+    }
+
+    /**
+     * Resets the board and progression for a new game and notifies listeners
+     * of the reset state.
+     */
+    public void newGame() {
+        board.newGame();
+        level = 1;
+        gameOver = false;
+        ticks = 0;
+        piecesPlaced = 0;
+        linesCleared = 0;
+        for (GameListener listener : listeners) {
+            listener.onBoardChanged(board.getBoardMatrix());
+            listener.onScoreChanged(board.getScore().getValue());
+            listener.onLevelChanged(level, getGravityMillis());
+        }
+    }
+
+    /**
+     * Performs one gravity tick: moves the brick down, or locks it if it
+     * cannot move.
+     *
+     * @return the data representing the state after the tick.
+     */
+    public DownData tick() {
+        ticks++;
+        return moveDown();
+    }
+
+    /**
+     * Moves the brick down one row. If the brick cannot move down, it is locked
+     * to the board, rows are cleared, the score is updated and a new brick is
+     * spawned.
+     *
+     * @return the data representing the state after the move, including
+     *         cleared rows and view data.
+     */
+    public DownData moveDown() {
+        ClearRow clearRow = null;
+        if (!board.moveBrickDown()) {
+            clearRow = lockAndSpawn();
+        }
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    /**
+     * Drops the brick straight to its landing position and locks it.
+     *
+     * @return the data representing the state after the drop, including
+     *         cleared rows and view data.
+     */
+    public DownData hardDrop() {
+        board.dropBrick();
+        int column = board.getViewData().getxPosition();
+        for (GameListener listener : listeners) {
+            listener.onHardDrop(column);
+        }
+        ClearRow clearRow = lockAndSpawn();
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    /**
+     * Moves the brick one column to the left.
+     *
+     * @return the updated view data.
+     */
+    public ViewData moveLeft() {
+        board.moveBrickLeft();
+        return board.getViewData();
+    }
+
+    /**
+     * Moves the brick one column to the right.
+     *
+     * @return the updated view data.
+     */
+    public ViewData moveRight() {
+        board.moveBrickRight();
+        return board.getViewData();
+    }
+
+    /**
+     * Rotates the brick.
+     *
+     * @return the updated view data.
+     */
+    public ViewData rotate() {
+        board.rotateLeftBrick();
+        return board.getViewData();
+    }
+
+    /**
+     * Swaps the current brick with the held brick.
+     *
+     * @return the updated view data.
+     */
+    public ViewData hold() {
+        if (board.holdBrick()) {
+            for (GameListener listener : listeners) {
+                listener.onHold();
+            }
+        }
+        return board.getViewData();
+    }
+
+    /**
+     * Applies a player input, as the controller does for key presses.
+     *
+     * @param input the input to apply.
+     */
+    public void apply(EventType input) {
+        switch (input) {
+            case DOWN:
+                moveDown();
+                break;
+            case LEFT:
+                moveLeft();
+                break;
+            case RIGHT:
+                moveRight();
+                break;
+            case ROTATE:
+                rotate();
+                break;
+            case DROP:
+                hardDrop();
+                break;
+            case HOLD:
+                hold();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Locks the current brick, clears rows, updates score and level, and spawns
+     * the next brick.
+     *
+     * @return the cleared row information.
+     */
+    private ClearRow lockAndSpawn() {
+        board.lockBrickToBoard();
+        piecesPlaced++;
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            linesCleared += clearRow.getLinesRemoved();
+            board.getScore().add(clearRow.getScoreBonus());
+            int score = board.getScore().getValue();
+            for (GameListener listener : listeners) {
+                listener.onRowsCleared(clearRow);
+                listener.onScoreChanged(score);
+            }
+            updateLevel(score);
+        }
+        if (board.createNewBrick()) {
+            gameOver = true;
+            for (GameListener listener : listeners) {
+                listener.onGameOver();
+            }
+        }
+        for (GameListener listener : listeners) {
+            listener.onBoardChanged(board.getBoardMatrix());
+        }
+        return clearRow;
+    }
+
+    /**
+     * Updates the level based on the score and notifies listeners if it
+     * changed.
+     *
+     * @param score the current score.
+     */
+    private void updateLevel(int score) {
+        int newLevel = LevelConfig.getLevelForScore(score);
+        if (newLevel != level) {
+            level = newLevel;
+            for (GameListener listener : listeners) {
+                listener.onLevelChanged(level, getGravityMillis());
+            }
+        }
+    }
+
+    /**
+     * Gets the board driven by this engine.
+     *
+     * @return the Board.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the current level.
+     *
+     * @return the level (1-based).
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the delay between gravity ticks for the current level.
+     *
+     * @return the delay in milliseconds.
+     */
+    public double getGravityMillis() {
+        return LevelConfig.getSpeedForLevel(level);
+    }
+
+    /**
+     * Checks whether the last spawned brick collided, ending the game.
+     *
+     * @return true if the game is over.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the number of gravity ticks since the game started.
+     *
+     * @return the tick count.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the number of bricks locked since the game started.
+     *
+     * @return the piece count.
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Gets the number of rows cleared since the game started.
+     *
+     * @return the line count.
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+}
@@ -0,0 +1,62 @@
+package com.comp2042;
+
+/**
+ * Observer interface for {@link GameEngine} events.
+ * A GUI, audio layer or batch runner implements the callbacks it needs; all
+ * methods default to doing nothing.
+ */
+public interface GameListener {
+
+    /**
+     * Called after the board background has changed (lock, clear or reset).
+     *
+     * @param boardMatrix the current board matrix.
+     */
+    default void onBoardChanged(int[][] boardMatrix) {
+    }
+
+    /**
+     * Called when one or more rows have been cleared.
+     *
+     * @param clearRow the details of the cleared rows.
+     */
+    default void onRowsCleared(ClearRow clearRow) {
+    }
+
+    /**
+     * Called when the score changes or is reset.
+     *
+     * @param score the new score.
+     */
+    default void onScoreChanged(int score) {
+    }
+
+    /**
+     * Called when the level changes or is reset.
+     *
+     * @param level         the new level (1-based).
+     * @param gravityMillis the delay between gravity ticks for that level.
+     */
+    default void onLevelChanged(int level, double gravityMillis) {
+    }
+
+    /**
+     * Called when the active brick is hard dropped, before it is locked.
+     *
+     * @param column the x position of the dropped brick.
+     */
+    default void onHardDrop(int column) {
+    }
+
+    /**
+     * Called when the active brick is held or swapped with the held brick.
+     */
+    default void onHold() {
+    }
+
+    /**
+     * Called when a newly spawned brick collides and the game ends.
+     */
+    default void onGameOver() {
+    }
+}
@@ -0,0 +1,60 @@
+package com.comp2042;
+
+import com.comp2042.ai.HintEngine;
+
+/**
+ * Interface for the view that presents a game.
+ * Implemented by {@link GuiController}; headless runs such as benchmarks use
+ * a no-op implementation.
+ */
+public interface GameView {
+
+    /**
+     * Sets the listener that receives the view's input events.
+     *
+     * @param eventListener the event listener to handle game input events.
+     */
+    void setEventListener(InputEventListener eventListener);
+
+    /**
+     * Sets the engine whose placement hints the view may show.
+     *
+     * @param hintEngine the hint engine.
+     */
+    void setHintEngine(HintEngine hintEngine);
+
+    /**
+     * Initializes the game board view with the given matrix and current brick.
+     *
+     * @param boardMatrix the current state of the board.
+     * @param brick       the current moving brick view data.
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Refreshes the entire game board background grid.
+     *
+     * @param board the board matrix data.
+     */
+    void refreshGameBackground(int[][] board);
+
+    /**
+     * Shows the given score.
+     *
+     * @param score the current score.
+     */
+    void updateScore(int score);
+
+    /**
+     * Updates the level display and the gravity speed.
+     *
+     * @param level the current level.
+     * @param speed the delay between gravity ticks in milliseconds.
+     */
+    void updateLevel(int level, double speed);
+
+    /**
+     * Displays the game over screen.
+     */
+    void gameOver();
+}
@@ -1,12 +1,14 @@
 package com.comp2042;
 
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.animation.TranslateTransition;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -31,20 +33,33 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.util.Duration;
 
+import com.comp2042.ai.HintEngine;
+import com.comp2042.render.CanvasRenderer;
+import com.comp2042.render.NodeRenderer;
+import com.comp2042.render.ParticleSystem;
+import com.comp2042.render.PlayfieldRenderer;
+import com.comp2042.render.QualityGovernor;
+
 import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.ResourceBundle;
 import java.util.List;
-import javafx.beans.value.ChangeListener;
-import javafx.beans.value.ObservableValue;
 
 /**
  * Controller class for the main Game GUI.
  * Manages the UI elements, updates the game view, and handles user input via
  * event listeners.
  */
-public class GuiController implements Initializable {
+public class GuiController implements Initializable, GameView {
 
-    private static final int BRICK_SIZE = 20;
+    private static final int BRICK_SIZE = PlayfieldRenderer.BRICK_SIZE;
+    private static final String RENDERER_PROPERTY = "tetris.renderer";
+    private static final String RENDER_STATS_PROPERTY = "tetris.render.stats";
+    private static final String PARTICLES_PROPERTY = "tetris.particles";
+    private static final String QUALITY_PROPERTY = "tetris.quality";
+    private static final String LOW_FX_STYLE = "low-fx";
+    private static final int PARTICLES_PER_ROW = 25;
 
     @FXML
     private GridPane gamePanel;
@@ -73,21 +88,32 @@ public class GuiController implements Initializable {
     @FXML
     private Label levelValue;
 
-    private Rectangle[][] displayMatrix;
+    @FXML
+    private StackPane scanlines;
 
     private InputEventListener eventListener;
 
-    private Rectangle[][] rectangles;
+    private PlayfieldRenderer renderer;
+
+    private HintEngine hintEngine;
 
-    private GridPane ghostPanel;
+    private Timeline timeLine;
 
-    private Rectangle[][] ghostRectangles;
+    private AnimationTimer frameTimer;
 
-    private Rectangle[][] nextRectangles;
+    private QualityGovernor qualityGovernor;
 
-    private Rectangle[][] heldRectangles;
+    private int qualityLevel = QualityGovernor.FULL;
 
-    private Timeline timeLine;
+    private int appliedQualityLevel = -1;
+
+    private ParticleSystem particles;
+
+    private javafx.scene.text.Text tetrisText;
+
+    private ParallelTransition tetrisAnimation;
+
+    private final Deque<NotificationPanel> idleNotifications = new ArrayDeque<>();
 
     private final BooleanProperty isPause = new SimpleBooleanProperty();
 
@@ -150,6 +176,10 @@ public class GuiController implements Initializable {
                 if (keyEvent.getCode() == KeyCode.P) {
                     pauseGame(null);
                 }
+                if (keyEvent.getCode() == KeyCode.H && hintEngine != null) {
+                    hintEngine.setEnabled(!hintEngine.isEnabled());
+                    refreshHint();
+                }
             }
         });
     }
@@ -171,139 +201,80 @@ public class GuiController implements Initializable {
      * @param boardMatrix the current state of the board.
      * @param brick       the current moving brick view data.
      */
+    @Override
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2);
-            }
-        }
-
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(ColorHelper.getFillColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-            }
+        renderer = createRenderer();
+        renderer.init(boardMatrix, brick);
+        int pinnedLevel = Integer.getInteger(QUALITY_PROPERTY, -1);
+        if (pinnedLevel < 0) {
+            qualityGovernor = new QualityGovernor(QualityGovernor.DEFAULT_FRAME_BUDGET_NANOS);
+        } else {
+            qualityLevel = Math.min(pinnedLevel, QualityGovernor.MINIMAL);
         }
-        brickPanel.setLayoutX(
-                gameBoard.getLayoutX() + gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap()
-                        + brick.getxPosition() * BRICK_SIZE);
-        brickPanel.setLayoutY(
-                -42 + gameBoard.getLayoutY() + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap()
-                        + brick.getyPosition() * BRICK_SIZE);
-
-        ghostPanel = new GridPane();
-        ghostPanel.setVgap(brickPanel.getVgap());
-        ghostPanel.setHgap(brickPanel.getHgap());
-        ghostRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(ColorHelper.getFillColor(brick.getBrickData()[i][j]));
-                rectangle.setOpacity(0.3); // Ghost effect
-                ghostRectangles[i][j] = rectangle;
-                ghostPanel.add(rectangle, j, i);
+        frameTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                renderer.getStats().endFrame();
+                if (qualityGovernor != null && qualityGovernor.pulse(now)) {
+                    qualityLevel = qualityGovernor.getLevel();
+                }
+                if (qualityLevel != appliedQualityLevel) {
+                    applyQuality(qualityLevel);
+                }
             }
-        }
-        javafx.scene.layout.Pane parent = (javafx.scene.layout.Pane) brickPanel.getParent();
-        int brickIndex = parent.getChildren().indexOf(brickPanel);
-        parent.getChildren().add(brickIndex, ghostPanel);
-
-        ghostPanel.setLayoutX(
-                gameBoard.getLayoutX() + gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap()
-                        + brick.getxPosition() * BRICK_SIZE);
-        ghostPanel.setLayoutY(
-                -42 + gameBoard.getLayoutY() + gamePanel.getLayoutY() + brick.getGhostY() * brickPanel.getHgap()
-                        + brick.getGhostY() * BRICK_SIZE);
+        };
+        frameTimer.start();
 
         timeLine = new Timeline(new KeyFrame(
                 Duration.millis(400),
                 ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))));
         timeLine.setCycleCount(Timeline.INDEFINITE);
         timeLine.play();
-
-        nextRectangles = new Rectangle[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                nextRectangles[i][j] = rectangle;
-                nextBrickPanel.add(rectangle, j, i);
-            }
-        }
-        refreshNextBrick(brick.getNextBrickData());
-
-        heldRectangles = new Rectangle[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                heldRectangles[i][j] = rectangle;
-                heldBrickPanel.add(rectangle, j, i);
-            }
-        }
-        refreshHeldBrick(brick.getHeldBrickData());
     }
 
     /**
-     * Refreshes the display of the held brick.
+     * Turns the visual effects on or off for a quality level: the scanline
+     * overlay, then the particle and popup glows with the ghost's alpha
+     * blending, then the stylesheet's drop shadows.
      *
-     * @param heldBrickData the matrix data of the held brick.
+     * @param level the quality level, from {@link QualityGovernor#FULL} to
+     *              {@link QualityGovernor#MINIMAL}.
      */
-    private void refreshHeldBrick(int[][] heldBrickData) {
-        if (heldBrickData == null) {
-            for (int i = 0; i < 4; i++) {
-                for (int j = 0; j < 4; j++) {
-                    heldRectangles[i][j].setFill(Color.TRANSPARENT);
-                    heldRectangles[i][j].setStroke(Color.TRANSPARENT);
-                }
-            }
-            return;
+    private void applyQuality(int level) {
+        appliedQualityLevel = level;
+        scanlines.setVisible(level < QualityGovernor.NO_SCANLINES);
+        boolean glow = level < QualityGovernor.NO_GLOW;
+        renderer.setGhostBlending(glow);
+        if (particles != null) {
+            particles.setGlow(glow);
         }
-        // Clear previous
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                heldRectangles[i][j].setFill(Color.TRANSPARENT);
-                heldRectangles[i][j].setStroke(Color.TRANSPARENT);
-            }
+        for (NotificationPanel notification : idleNotifications) {
+            notification.setGlow(glow);
         }
-        // Draw new
-        for (int i = 0; i < heldBrickData.length; i++) {
-            for (int j = 0; j < heldBrickData[i].length; j++) {
-                if (heldBrickData[i][j] != 0) {
-                    setRectangleData(heldBrickData[i][j], heldRectangles[i][j]);
-                }
+        for (Node child : notificationPanel.getChildren()) {
+            if (child instanceof NotificationPanel) {
+                ((NotificationPanel) child).setGlow(glow);
             }
         }
+        List<String> styleClasses = gamePanel.getScene().getRoot().getStyleClass();
+        styleClasses.remove(LOW_FX_STYLE);
+        if (level >= QualityGovernor.MINIMAL) {
+            styleClasses.add(LOW_FX_STYLE);
+        }
     }
 
     /**
-     * Refreshes the display of the next upcoming brick.
+     * Creates the renderer chosen by the {@code tetris.renderer} system
+     * property: {@code canvas} paints the playfield on a single canvas, and
+     * anything else uses one node per cell.
      *
-     * @param nextBrickData the matrix data of the next brick.
+     * @return the playfield renderer.
      */
-    private void refreshNextBrick(int[][] nextBrickData) {
-        // Clear previous
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                nextRectangles[i][j].setFill(Color.TRANSPARENT);
-                nextRectangles[i][j].setStroke(Color.TRANSPARENT);
-            }
-        }
-        // Draw new
-        for (int i = 0; i < nextBrickData.length; i++) {
-            for (int j = 0; j < nextBrickData[i].length; j++) {
-                if (nextBrickData[i][j] != 0) {
-                    setRectangleData(nextBrickData[i][j], nextRectangles[i][j]);
-                }
-            }
+    private PlayfieldRenderer createRenderer() {
+        if ("canvas".equalsIgnoreCase(System.getProperty(RENDERER_PROPERTY))) {
+            return new CanvasRenderer(gamePanel, brickPanel, nextBrickPanel, heldBrickPanel);
         }
+        return new NodeRenderer(gameBoard, gamePanel, brickPanel, nextBrickPanel, heldBrickPanel);
     }
 
     /**
@@ -313,65 +284,32 @@ public class GuiController implements Initializable {
      */
     private void refreshBrick(ViewData brick) {
         if (isPause.getValue() == Boolean.FALSE) {
-            brickPanel.setLayoutX(
-                    gameBoard.getLayoutX() + gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap()
-                            + brick.getxPosition() * BRICK_SIZE);
-            brickPanel.setLayoutY(
-                    -42 + gameBoard.getLayoutY() + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap()
-                            + brick.getyPosition() * BRICK_SIZE);
-
-            ghostPanel.setLayoutX(
-                    gameBoard.getLayoutX() + gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap()
-                            + brick.getxPosition() * BRICK_SIZE);
-            ghostPanel.setLayoutY(
-                    -42 + gameBoard.getLayoutY() + gamePanel.getLayoutY() + brick.getGhostY() * brickPanel.getHgap()
-                            + brick.getGhostY() * BRICK_SIZE);
-
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-                    setRectangleData(brick.getBrickData()[i][j], ghostRectangles[i][j]);
-                    ghostRectangles[i][j].setOpacity(0.3);
-                }
-            }
-            refreshNextBrick(brick.getNextBrickData());
-            refreshHeldBrick(brick.getHeldBrickData());
+            renderer.drawBrick(brick);
+            renderer.drawPreviews(brick);
+            refreshHint();
         }
     }
 
     /**
-     * Refreshes the entire game board background grid.
-     *
-     * @param board the board matrix data.
+     * Shows the latest placement hint where the brick should lock, or hides
+     * it if hints are off or still being computed.
+     * The hint is read from the engine's published snapshot, so this never
+     * waits for a search.
      */
-    public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
-            }
+    private void refreshHint() {
+        if (renderer != null) {
+            renderer.drawHint(hintEngine != null ? hintEngine.getHint() : null);
         }
     }
 
     /**
-     * Helper method to set the properties of a rectangle in the grid.
+     * Refreshes the board cells that changed since the last refresh.
      *
-     * @param color     the color index for the rectangle.
-     * @param rectangle the rectangle object to update.
+     * @param board the board matrix data.
      */
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(ColorHelper.getFillColor(color));
-        rectangle.setArcHeight(5); // Reduced from 9 for better "brick" look
-        rectangle.setArcWidth(5);
-        if (color == 0) {
-            // Empty grid cell: Super dim
-            rectangle.setStroke(Color.rgb(255, 255, 255, 0.05));
-            rectangle.setStrokeWidth(1);
-        } else {
-            // Active brick: High contrast
-            rectangle.setStroke(Color.BLACK);
-            rectangle.setStrokeWidth(2);
-        }
-        rectangle.setStrokeType(javafx.scene.shape.StrokeType.INSIDE); // Ensure border doesn't overflow
+    @Override
+    public void refreshGameBackground(int[][] board) {
+        renderer.drawBackground(board);
     }
 
     /**
@@ -389,10 +327,7 @@ public class GuiController implements Initializable {
                 downData = eventListener.onDownEvent(event);
             }
             if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                NotificationPanel notification = new NotificationPanel(
-                        "+" + downData.getClearRow().getScoreBonus());
-                notificationPanel.getChildren().add(notification);
-                notification.showScore(notificationPanel.getChildren());
+                showNotification("+" + downData.getClearRow().getScoreBonus());
 
                 // Spawn particles for cleared rows
                 spawnParticles(downData.getClearRow().getClearedRows());
@@ -417,55 +352,94 @@ public class GuiController implements Initializable {
         gamePanel.requestFocus();
     }
 
+    /**
+     * Shows a score popup, reusing a finished notification panel if there is
+     * one.
+     *
+     * @param text the text to display.
+     */
+    private void showNotification(String text) {
+        NotificationPanel notification = idleNotifications.poll();
+        if (notification == null) {
+            notification = new NotificationPanel(text);
+            notification.setGlow(qualityLevel < QualityGovernor.NO_GLOW);
+            NotificationPanel finished = notification;
+            notification.setOnFinished(() -> idleNotifications.push(finished));
+        } else {
+            notification.setText(text);
+        }
+        notificationPanel.getChildren().add(notification);
+        notification.showScore(notificationPanel.getChildren());
+    }
+
     /**
      * Displays a "TETRIS" text animation for a Tetris line clear (4 lines).
+     * The text node and its animation are created on the first Tetris and
+     * restarted for every later one.
      *
      * @param yPos the vertical position to display the text.
      */
     private void showTetrisText(double yPos) {
-        javafx.scene.text.Text tetrisText = new javafx.scene.text.Text("TETRIS");
-        tetrisText.getStyleClass().add("tetrisTextStyle");
-
-        // Add to ROOT pane for positioning over the board
-        javafx.scene.layout.Pane root = (javafx.scene.layout.Pane) gamePanel.getScene().getRoot();
-        root.getChildren().add(tetrisText);
+        if (tetrisText == null) {
+            tetrisText = new javafx.scene.text.Text("TETRIS");
+            tetrisText.getStyleClass().add("tetrisTextStyle");
+            tetrisText.setVisible(false);
+
+            // Add to ROOT pane for positioning over the board
+            javafx.scene.layout.Pane root = (javafx.scene.layout.Pane) gamePanel.getScene().getRoot();
+            root.getChildren().add(tetrisText);
+
+            // Animation
+            TranslateTransition tt = new TranslateTransition(Duration.millis(1200), tetrisText);
+            tt.setFromY(0);
+            tt.setByY(-60); // Float up
+
+            FadeTransition ft = new FadeTransition(Duration.millis(1200), tetrisText);
+            ft.setFromValue(1.0);
+            ft.setToValue(0.0);
+
+            javafx.animation.ScaleTransition st = new javafx.animation.ScaleTransition(Duration.millis(250),
+                    tetrisText);
+            st.setFromX(0.5);
+            st.setFromY(0.5);
+            st.setToX(1.1); // Slightly larger than normal
+            st.setToY(1.1);
+            st.setCycleCount(2);
+            st.setAutoReverse(true);
+
+            tetrisAnimation = new ParallelTransition(tt, ft, st);
+            tetrisAnimation.setOnFinished(e -> tetrisText.setVisible(false));
+        }
 
         double startX = gameBoard.getLayoutX() + gamePanel.getLayoutX();
         double centerX = startX + (10 * BRICK_SIZE) / 2.0 - 50;
 
         tetrisText.setLayoutX(centerX);
         tetrisText.setLayoutY(yPos);
-
-        // Animation
-        javafx.animation.TranslateTransition tt = new javafx.animation.TranslateTransition(Duration.millis(1200),
-                tetrisText);
-        tt.setByY(-60); // Float up
-
-        javafx.animation.FadeTransition ft = new javafx.animation.FadeTransition(Duration.millis(1200), tetrisText);
-        ft.setFromValue(1.0);
-        ft.setToValue(0.0);
-
-        javafx.animation.ScaleTransition st = new javafx.animation.ScaleTransition(Duration.millis(250), tetrisText);
-        st.setFromX(0.5);
-        st.setFromY(0.5);
-        st.setToX(1.1); // Slightly larger than normal
-        st.setToY(1.1);
-        st.setCycleCount(2);
-        st.setAutoReverse(true);
-
-        javafx.animation.ParallelTransition pt = new javafx.animation.ParallelTransition(tt, ft, st);
-        pt.setOnFinished(e -> root.getChildren().remove(tetrisText));
-        pt.play();
+        tetrisText.setVisible(true);
+        tetrisAnimation.playFromStart();
     }
 
     /**
-     * Spawns particle effects for cleared rows.
+     * Spawns particle effects for cleared rows. The particle overlay is
+     * created on the first line clear, sized to follow the root pane, with
+     * the budget given by the {@code tetris.particles} system property;
+     * negative budgets count as 0.
      *
      * @param rows list of row indices that were cleared.
      */
     private void spawnParticles(java.util.List<Integer> rows) {
-        // Root pane to add particles to
-        javafx.scene.layout.Pane root = (javafx.scene.layout.Pane) gamePanel.getScene().getRoot();
+        if (particles == null) {
+            javafx.scene.layout.Pane root = (javafx.scene.layout.Pane) gamePanel.getScene().getRoot();
+            javafx.scene.canvas.Canvas overlay = new javafx.scene.canvas.Canvas();
+            overlay.widthProperty().bind(root.widthProperty());
+            overlay.heightProperty().bind(root.heightProperty());
+            overlay.setMouseTransparent(true);
+            root.getChildren().add(overlay);
+            particles = new ParticleSystem(overlay,
+                    Math.max(0, Integer.getInteger(PARTICLES_PROPERTY, ParticleSystem.DEFAULT_BUDGET)));
+            particles.setGlow(qualityLevel < QualityGovernor.NO_GLOW);
+        }
 
         double startX = gameBoard.getLayoutX() + gamePanel.getLayoutX();
         double startY = gameBoard.getLayoutY() + gamePanel.getLayoutY();
@@ -473,41 +447,7 @@ public class GuiController implements Initializable {
         for (Integer row : rows) {
             // Visual row index is row - 2
             double y = startY + (row - 2) * BRICK_SIZE;
-
-            for (int i = 0; i < 25; i++) { // Generate 25 particles per row
-                javafx.scene.shape.Circle particle = new javafx.scene.shape.Circle(Math.random() * 3 + 2);
-                // Random neon colors
-                int colorIdx = (int) (Math.random() * 7) + 1;
-                particle.setFill(ColorHelper.getFillColor(colorIdx));
-
-                // Add glow to particle
-                javafx.scene.effect.DropShadow glow = new javafx.scene.effect.DropShadow();
-                glow.setColor((javafx.scene.paint.Color) ColorHelper.getFillColor(colorIdx));
-                glow.setRadius(5);
-                glow.setSpread(0.5);
-                particle.setEffect(glow);
-
-                double x = startX + Math.random() * (10 * BRICK_SIZE);
-                particle.setLayoutX(x);
-                particle.setLayoutY(y + Math.random() * BRICK_SIZE);
-
-                root.getChildren().add(particle);
-
-                // Animate
-                javafx.animation.TranslateTransition tt = new javafx.animation.TranslateTransition(Duration.millis(800),
-                        particle);
-                tt.setByX((Math.random() - 0.5) * 150);
-                tt.setByY((Math.random() - 0.5) * 150 - 20); // Float up slightly
-
-                javafx.animation.FadeTransition ft = new javafx.animation.FadeTransition(Duration.millis(800),
-                        particle);
-                ft.setFromValue(1.0);
-                ft.setToValue(0.0);
-
-                javafx.animation.ParallelTransition pt = new javafx.animation.ParallelTransition(tt, ft);
-                pt.setOnFinished(e -> root.getChildren().remove(particle));
-                pt.play();
-            }
+            particles.burst(startX, y, 10 * BRICK_SIZE, BRICK_SIZE, PARTICLES_PER_ROW);
         }
     }
 
@@ -516,57 +456,67 @@ public class GuiController implements Initializable {
      *
      * @param eventListener the event listener to handle game input events.
      */
+    @Override
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
     }
 
+    /**
+     * Sets the engine whose placement hints are shown, toggled with the H
+     * key. New hints are drawn on the FX thread as soon as they are ready.
+     *
+     * @param hintEngine the hint engine.
+     */
+    @Override
+    public void setHintEngine(HintEngine hintEngine) {
+        this.hintEngine = hintEngine;
+        hintEngine.setOnHint(() -> Platform.runLater(this::refreshHint));
+    }
+
     @FXML
     private Label scoreValue;
 
     /**
-     * Binds the score property to the score label.
+     * Shows the given score in the score label.
      *
-     * @param integerProperty the score property from the game logic.
+     * @param score the current score from the game logic.
      */
-    public void bindScore(IntegerProperty integerProperty) {
-        scoreValue.textProperty().bind(integerProperty.asString("%d"));
-        integerProperty.addListener(new ChangeListener<Number>() {
-            @Override
-            public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
-                updateLevel(newValue.intValue());
-            }
-        });
+    @Override
+    public void updateScore(int score) {
+        scoreValue.setText(String.valueOf(score));
     }
 
     /**
-     * Updates the current level based on the score.
+     * Updates the level display and the gravity timeline speed.
      *
-     * @param score the current score.
+     * @param level the current level.
+     * @param speed the delay between gravity ticks in milliseconds.
      */
-    private void updateLevel(int score) {
-        int newLevel = LevelConfig.getLevelForScore(score);
-        if (newLevel != currentLevel) {
-            currentLevel = newLevel;
-            double newSpeed = LevelConfig.getSpeedForLevel(currentLevel);
-
-            System.out.println("Level Up! New Level: " + currentLevel + ", Speed: " + newSpeed + "ms");
-
-            if (timeLine != null) {
-                timeLine.stop();
-                timeLine.getKeyFrames().clear();
-                timeLine.getKeyFrames().add(new KeyFrame(
-                        Duration.millis(newSpeed),
-                        ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))));
+    @Override
+    public void updateLevel(int level, double speed) {
+        if (level > currentLevel) {
+            System.out.println("Level Up! New Level: " + level + ", Speed: " + speed + "ms");
+        }
+        currentLevel = level;
+
+        if (timeLine != null) {
+            boolean running = timeLine.getStatus() == Animation.Status.RUNNING;
+            timeLine.stop();
+            timeLine.getKeyFrames().clear();
+            timeLine.getKeyFrames().add(new KeyFrame(
+                    Duration.millis(speed),
+                    ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))));
+            if (running) {
                 timeLine.play();
             }
+        }
 
-            // Update Level Label
-            if (levelValue != null) {
-                if (currentLevel >= 5) {
-                    levelValue.setText("∞");
-                } else {
-                    levelValue.setText(String.valueOf(currentLevel));
-                }
+        // Update Level Label
+        if (levelValue != null) {
+            if (currentLevel >= 5) {
+                levelValue.setText("∞");
+            } else {
+                levelValue.setText(String.valueOf(currentLevel));
             }
         }
     }
@@ -607,6 +557,7 @@ public class GuiController implements Initializable {
     /**
      * Displays the Game Over screen and handles the associated animations.
      */
+    @Override
     public void gameOver() {
         timeLine.stop();
         gameOverPanel.setVisible(true);
@@ -659,26 +610,18 @@ public class GuiController implements Initializable {
         timeLine.stop();
         gameOverPanel.setVisible(false);
         toggleDimmer(false);
+        if (particles != null) {
+            particles.stop();
+        }
 
         // Reset Opacity
         scoreBox.setOpacity(1.0);
         holdBox.setOpacity(1.0);
         nextBox.setOpacity(1.0);
 
-        // Reset Level first to prevent updateLevel listener from triggering logic
-        currentLevel = 1;
-        if (levelValue != null) {
-            levelValue.setText("1");
-        }
-
+        // The engine resets score and level through updateScore/updateLevel
         eventListener.createNewGame();
 
-        double speed = LevelConfig.getSpeedForLevel(currentLevel);
-        timeLine.getKeyFrames().clear();
-        timeLine.getKeyFrames().add(new KeyFrame(
-                Duration.millis(speed),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))));
-
         gamePanel.requestFocus();
         timeLine.play();
         isPause.setValue(Boolean.FALSE);
@@ -708,12 +651,23 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Returns to the main menu.
+     * Returns to the main menu. Prints the renderer's per-frame cell counters
+     * and the final quality level first if the {@code tetris.render.stats}
+     * system property is set.
      *
      * @param actionEvent the event triggering the return.
      */
     public void backToMenu(ActionEvent actionEvent) {
         timeLine.stop();
+        frameTimer.stop();
+        if (particles != null) {
+            particles.stop();
+        }
+        if (Boolean.getBoolean(RENDER_STATS_PROPERTY)) {
+            System.out.println("Renderer: " + renderer.getStats().toSummary());
+            System.out.println("Quality: level " + qualityLevel + (qualityGovernor != null
+                    ? ", " + qualityGovernor.getChanges() + " changes" : " (fixed)"));
+        }
         if (eventListener != null) {
             eventListener.stopGame();
         }
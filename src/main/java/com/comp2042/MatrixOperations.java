@@ -1,6 +1,8 @@
 
 package com.comp2042;
 
+import com.comp2042.logic.bricks.PieceShape;
+
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -43,6 +45,28 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a shared brick shape intersects with the existing filled fields
+     * in the matrix. Only the shape's filled cells are visited.
+     *
+     * @param matrix the current board matrix.
+     * @param brick  the brick shape.
+     * @param x      the x-coordinate of the brick.
+     * @param y      the y-coordinate of the brick.
+     * @return true if there is an intersection or if the brick is out of bounds,
+     *         false otherwise.
+     */
+    public static boolean intersect(final int[][] matrix, final PieceShape brick, int x, int y) {
+        for (int i = 0; i < brick.getCellCount(); i++) {
+            int targetX = x + brick.getCellCol(i);
+            int targetY = y + brick.getCellRow(i);
+            if (targetY < 0 || checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if a coordinate is out of the bounds of the matrix.
      *
@@ -99,6 +123,42 @@ public class MatrixOperations {
         return copy;
     }
 
+    /**
+     * Merges a shared brick shape into the board matrix.
+     *
+     * @param filledFields the current board matrix.
+     * @param brick        the brick shape.
+     * @param x            the x-coordinate of the brick.
+     * @param y            the y-coordinate of the brick.
+     * @return a new matrix with the brick merged in.
+     */
+    public static int[][] merge(int[][] filledFields, PieceShape brick, int x, int y) {
+        int[][] copy = copy(filledFields);
+        for (int i = 0; i < brick.getCellCount(); i++) {
+            int row = brick.getCellRow(i);
+            int col = brick.getCellCol(i);
+            copy[y + row][x + col] = brick.getCell(row, col);
+        }
+        return copy;
+    }
+
+    /**
+     * Merges a shared brick shape directly into the board matrix without
+     * copying it.
+     *
+     * @param filledFields the board matrix to modify.
+     * @param brick        the brick shape.
+     * @param x            the x-coordinate of the brick.
+     * @param y            the y-coordinate of the brick.
+     */
+    public static void mergeInPlace(int[][] filledFields, PieceShape brick, int x, int y) {
+        for (int i = 0; i < brick.getCellCount(); i++) {
+            int row = brick.getCellRow(i);
+            int col = brick.getCellCol(i);
+            filledFields[y + row][x + col] = brick.getCell(row, col);
+        }
+    }
+
     /**
      * Checks for completed rows in the matrix and removes them.
      *
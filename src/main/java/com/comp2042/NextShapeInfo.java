@@ -1,20 +1,22 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.PieceShape;
+
 /**
  * Data class representing information about the next rotation state of a brick.
  */
 public final class NextShapeInfo {
 
-    private final int[][] shape;
+    private final PieceShape shape;
     private final int position;
 
     /**
      * Constructs a new NextShapeInfo object.
      *
-     * @param shape    the matrix of the next shape.
+     * @param shape    the next shape.
      * @param position the rotation index of the next shape.
      */
-    public NextShapeInfo(final int[][] shape, final int position) {
+    public NextShapeInfo(final PieceShape shape, final int position) {
         this.shape = shape;
         this.position = position;
     }
@@ -25,7 +27,7 @@ public final class NextShapeInfo {
      * @return a copy of the shape matrix.
      */
     public int[][] getShape() {
-        return MatrixOperations.copy(shape);
+        return shape.toMatrix();
     }
 
     /**
@@ -8,18 +8,25 @@ import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
-import javafx.scene.effect.Effect;
-import javafx.scene.effect.Glow;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
 
 /**
  * Custom JavaFX component for displaying temporary notifications (e.g., score
- * popups).
+ * popups). A panel can be shown again once its animation has finished, so
+ * callers may keep finished panels for reuse instead of creating new ones.
  */
 public class NotificationPanel extends BorderPane {
 
+    private static final String NO_GLOW_STYLE = "no-glow";
+
+    private final Label score;
+    private final TranslateTransition rise;
+    private final ParallelTransition transition;
+    private ObservableList<Node> list;
+    private Runnable onFinished;
+
     /**
      * Constructs a new NotificationPanel with the given text.
      *
@@ -28,34 +35,70 @@ public class NotificationPanel extends BorderPane {
     public NotificationPanel(String text) {
         setMinHeight(200);
         setMinWidth(220);
-        final Label score = new Label(text);
+        score = new Label(text);
         score.getStyleClass().add("bonusStyle");
-        final Effect glow = new Glow(0.6);
-        score.setEffect(glow);
         score.setTextFill(Color.WHITE);
         setCenter(score);
 
-    }
-
-    /**
-     * Shows the notification with an animation (fade and float up).
-     * Removes itself from the parent list upon completion.
-     *
-     * @param list the ObservableList of children from the parent container.
-     */
-    public void showScore(ObservableList<Node> list) {
         FadeTransition ft = new FadeTransition(Duration.millis(2000), this);
-        TranslateTransition tt = new TranslateTransition(Duration.millis(2500), this);
-        tt.setToY(this.getLayoutY() - 40);
         ft.setFromValue(1);
         ft.setToValue(0);
-        ParallelTransition transition = new ParallelTransition(tt, ft);
+        rise = new TranslateTransition(Duration.millis(2500), this);
+        transition = new ParallelTransition(rise, ft);
         transition.setOnFinished(new EventHandler<ActionEvent>() {
             @Override
             public void handle(ActionEvent event) {
                 list.remove(NotificationPanel.this);
+                if (onFinished != null) {
+                    onFinished.run();
+                }
             }
         });
-        transition.play();
+    }
+
+    /**
+     * Changes the text to display.
+     *
+     * @param text the text to display.
+     */
+    public void setText(String text) {
+        score.setText(text);
+    }
+
+    /**
+     * Turns the glow of the text on or off. The glow is the stylesheet's
+     * drop shadow on {@code bonusStyle}, which a {@code no-glow} style class
+     * removes; an effect set from code would be overridden by the stylesheet.
+     *
+     * @param enabled true to make the text glow.
+     */
+    public void setGlow(boolean enabled) {
+        score.getStyleClass().remove(NO_GLOW_STYLE);
+        if (!enabled) {
+            score.getStyleClass().add(NO_GLOW_STYLE);
+        }
+    }
+
+    /**
+     * Sets the action run after the panel has removed itself.
+     *
+     * @param onFinished the action, or null for none.
+     */
+    public void setOnFinished(Runnable onFinished) {
+        this.onFinished = onFinished;
+    }
+
+    /**
+     * Shows the notification with an animation (fade and float up).
+     * Removes itself from the parent list upon completion.
+     *
+     * @param list the ObservableList of children from the parent container.
+     */
+    public void showScore(ObservableList<Node> list) {
+        this.list = list;
+        setTranslateY(0);
+        setOpacity(1);
+        rise.setToY(this.getLayoutY() - 40);
+        transition.playFromStart();
     }
 }
@@ -0,0 +1,147 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.PieceShape;
+
+import java.util.Arrays;
+
+/**
+ * In-place row clearing for a board matrix.
+ * Keeps a fill count per row that is maintained as bricks are merged, so full
+ * rows are found without scanning cells. Surviving rows are compacted inside
+ * the existing matrix and the cleared row indices are reported through a
+ * reusable primitive buffer.
+ */
+public class RowClearer {
+
+    private final int width;
+    private final int height;
+    private final int[] rowFill;
+    private final int[] clearedRows;
+    private int clearedCount;
+    private int fullRows;
+
+    /**
+     * Creates a row clearer for an empty board.
+     *
+     * @param width  the board width.
+     * @param height the board height.
+     */
+    public RowClearer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.rowFill = new int[height];
+        this.clearedRows = new int[height];
+    }
+
+    /**
+     * Resets all fill counts for an empty board.
+     */
+    public void reset() {
+        Arrays.fill(rowFill, 0);
+        clearedCount = 0;
+        fullRows = 0;
+    }
+
+    /**
+     * Rebuilds the fill counts from a full board matrix.
+     *
+     * @param matrix the board matrix.
+     */
+    public void rebuild(int[][] matrix) {
+        reset();
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                if (matrix[row][col] != 0) {
+                    rowFill[row]++;
+                }
+            }
+            if (rowFill[row] == width) {
+                fullRows++;
+            }
+        }
+    }
+
+    /**
+     * Updates the fill counts after a brick has been merged into the board.
+     *
+     * @param shape the merged brick shape.
+     * @param y     the y-coordinate of the brick.
+     */
+    public void onMerge(PieceShape shape, int y) {
+        for (int row = shape.getMinRow(); row <= shape.getMaxRow(); row++) {
+            int target = y + row;
+            rowFill[target] += Integer.bitCount(shape.getRowMask(row));
+            if (rowFill[target] == width) {
+                fullRows++;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of filled cells in a row.
+     *
+     * @param row the board row.
+     * @return the fill count.
+     */
+    public int getRowFill(int row) {
+        return rowFill[row];
+    }
+
+    /**
+     * Removes every full row from the matrix in place.
+     * Rows above a cleared row are shifted down with {@link System#arraycopy}
+     * and the freed rows at the top are emptied.
+     *
+     * @param matrix the board matrix to compact.
+     * @return the number of rows removed.
+     */
+    public int clear(int[][] matrix) {
+        clearedCount = 0;
+        if (fullRows == 0) {
+            return 0;
+        }
+        for (int row = 0; row < height; row++) {
+            if (rowFill[row] == width) {
+                clearedRows[clearedCount++] = row;
+            }
+        }
+
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            if (rowFill[read] == width) {
+                continue;
+            }
+            if (write != read) {
+                System.arraycopy(matrix[read], 0, matrix[write], 0, width);
+                rowFill[write] = rowFill[read];
+            }
+            write--;
+        }
+        for (; write >= 0; write--) {
+            Arrays.fill(matrix[write], 0);
+            rowFill[write] = 0;
+        }
+        fullRows = 0;
+        return clearedCount;
+    }
+
+    /**
+     * Gets the number of rows removed by the last {@link #clear(int[][])}.
+     *
+     * @return the cleared row count.
+     */
+    public int getClearedCount() {
+        return clearedCount;
+    }
+
+    /**
+     * Gets the original index of a row removed by the last clear, in
+     * top-to-bottom order.
+     *
+     * @param index the position in the cleared row buffer.
+     * @return the row index before clearing.
+     */
+    public int getClearedRow(int index) {
+        return clearedRows[index];
+    }
+}
@@ -0,0 +1,89 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.PieceShape;
+
+/**
+ * Utility class for bitmask operations on board rows.
+ * Each row is stored as an int where bit {@code x} is set when column
+ * {@code x} is filled.
+ */
+public final class RowMasks {
+
+    /**
+     * Mask with every column of a row filled.
+     */
+    public static final int FULL_ROW = (1 << Constants.BOARD_WIDTH) - 1;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RowMasks() {
+
+    }
+
+    /**
+     * Shifts a shape row mask to board column {@code x}.
+     *
+     * @param mask the shape row mask, with bit 0 being the shape's left column.
+     * @param x    the board column of the shape's left column.
+     * @return the mask in board coordinates, or -1 if any cell falls outside the
+     *         board.
+     */
+    public static int shift(int mask, int x) {
+        int shifted;
+        if (x >= 0) {
+            if (x >= Constants.BOARD_WIDTH) {
+                return -1;
+            }
+            shifted = mask << x;
+        } else {
+            if (x <= -Integer.SIZE || (mask & ((1 << -x) - 1)) != 0) {
+                return -1;
+            }
+            shifted = mask >>> -x;
+        }
+        return (shifted & ~FULL_ROW) != 0 ? -1 : shifted;
+    }
+
+    /**
+     * Checks if a shape intersects with the filled rows or the board bounds.
+     *
+     * @param rows  the board row masks.
+     * @param shape the brick shape.
+     * @param x     the x-coordinate of the shape.
+     * @param y     the y-coordinate of the shape.
+     * @return true if there is an intersection or the shape is out of bounds,
+     *         false otherwise.
+     */
+    public static boolean intersects(int[] rows, PieceShape shape, int x, int y) {
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int targetY = y + r;
+            if (targetY < 0 || targetY >= rows.length) {
+                return true;
+            }
+            int shifted = shift(shape.getRowMask(r), x);
+            if (shifted == -1 || (rows[targetY] & shifted) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the lowest y-coordinate a shape can drop to from its current
+     * position.
+     *
+     * @param rows  the board row masks.
+     * @param shape the brick shape.
+     * @param x     the x-coordinate of the shape.
+     * @param y     the current y-coordinate of the shape.
+     * @return the y-coordinate where the shape would land.
+     */
+    public static int dropY(int[] rows, PieceShape shape, int x, int y) {
+        int dropY = y;
+        while (!intersects(rows, shape, x, dropY + 1)) {
+            dropY++;
+        }
+        return dropY;
+    }
+}
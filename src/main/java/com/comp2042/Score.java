@@ -1,22 +1,20 @@
 package com.comp2042;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
  * Class representing the game score.
- * Wraps an {@link IntegerProperty} to allow binding and easy modification.
+ * Holds a plain integer so game rules can run without JavaFX; views are told
+ * about changes through {@link GameListener#onScoreChanged(int)}.
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int score;
 
     /**
-     * Gets the score property for binding.
+     * Gets the current score value.
      *
-     * @return the IntegerProperty representing the score.
+     * @return the score.
      */
-    public IntegerProperty scoreProperty() {
+    public int getValue() {
         return score;
     }
 
@@ -26,13 +24,13 @@ public final class Score {
      * @param i the amount to add.
      */
     public void add(int i) {
-        score.setValue(score.getValue() + i);
+        score += i;
     }
 
     /**
      * Resets the score to zero.
      */
     public void reset() {
-        score.setValue(0);
+        score = 0;
     }
 }
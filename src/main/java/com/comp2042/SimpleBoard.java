@@ -2,9 +2,13 @@ package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.ShapeTable;
 
-import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Concrete implementation of the {@link Board} interface.
@@ -17,10 +21,14 @@ public class SimpleBoard implements Board {
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
     private int[][] boardMatrix;
-    private Point brickOffset;
+    private final SurfaceProfile surface;
+    private final RowClearer rowClearer;
+    private int brickX;
+    private int brickY;
     private final Score score;
     private Brick heldBrick;
     private boolean hasHeldThisTurn;
+    private int[] packedRows;
 
     /**
      * Creates a new game board with the given width and height.
@@ -28,8 +36,19 @@ public class SimpleBoard implements Board {
      * system.
      */
     public SimpleBoard() {
+        this(new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a new game board that takes its bricks from the given generator.
+     *
+     * @param brickGenerator the source of new bricks.
+     */
+    public SimpleBoard(BrickGenerator brickGenerator) {
         boardMatrix = new int[height][width];
-        brickGenerator = new RandomBrickGenerator();
+        surface = new SurfaceProfile(width, height);
+        rowClearer = new RowClearer(width, height);
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
         score = new Score();
     }
@@ -41,45 +60,43 @@ public class SimpleBoard implements Board {
      */
     private boolean spawnBrick() {
         Brick newBrick = brickGenerator.getBrick();
-        brickRotator.setBrick(newBrick);
-
         brickRotator.setBrick(newBrick);
         hasHeldThisTurn = false;
+        resetPosition();
 
-        // Use your new constant names
-        int brickWidth = newBrick.getShapeMatrix().get(0).length;
-        int centeredX = (width - brickWidth) / 2;
-        brickOffset = new Point(centeredX, Constants.START_Y);
+        return MatrixOperations.intersect(boardMatrix, brickRotator.getCurrentShape(), brickX, brickY);
+    }
 
-        return MatrixOperations.intersect(
-                boardMatrix,
-                brickRotator.getCurrentShape(),
-                (int) brickOffset.getX(),
-                (int) brickOffset.getY());
+    /**
+     * Moves the brick currently set on the rotator to the centered starting
+     * position.
+     */
+    private void resetPosition() {
+        int brickWidth = brickRotator.getCurrentShape().getSize();
+        brickX = (width - brickWidth) / 2;
+        brickY = Constants.START_Y;
     }
 
     /**
      * Attempts to move the active brick by a given horizontal/vertical offset.
-     * Performs collision detection before committing the move.
+     * Performs a read-only collision check against the live board before
+     * committing the move, so no arrays or points are allocated.
      *
      * @param dx the change in X position (e.g., -1 left, +1 right)
      * @param dy the change in Y position (e.g., +1 down)
      * @return true if the move is valid and applied; false if blocked
      */
     private boolean tryMove(int dx, int dy) {
-        int[][] currentMatrix = MatrixOperations.copy(boardMatrix);
-        Point p = new Point(brickOffset);
-        p.translate(dx, dy);
-
         boolean conflict = MatrixOperations.intersect(
-                currentMatrix,
+                boardMatrix,
                 brickRotator.getCurrentShape(),
-                p.x,
-                p.y);
+                brickX + dx,
+                brickY + dy);
         if (conflict)
             return false;
 
-        brickOffset = p;
+        brickX += dx;
+        brickY += dy;
         return true;
     }
 
@@ -113,6 +130,19 @@ public class SimpleBoard implements Board {
         return tryMove(1, 0);
     }
 
+    /**
+     * Drops the falling brick straight down to its ghost position.
+     *
+     * @return the number of rows the brick dropped
+     */
+    @Override
+    public int dropBrick() {
+        int landingY = calculateGhostY();
+        int distance = landingY - brickY;
+        brickY = landingY;
+        return distance;
+    }
+
     /**
      * Attempts to rotate the falling brick to the left.
      *
@@ -120,14 +150,12 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(boardMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) brickOffset.getX(),
-                (int) brickOffset.getY());
+        int nextShape = brickRotator.getNextShapeIndex();
+        boolean conflict = MatrixOperations.intersect(boardMatrix, brickRotator.getShape(nextShape), brickX, brickY);
         if (conflict) {
             return false;
         } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
+            brickRotator.setCurrentShape(nextShape);
             return true;
         }
     }
@@ -172,9 +200,7 @@ public class SimpleBoard implements Board {
             brickRotator.setBrick(temp);
 
             // Reset position for swapped brick
-            int brickWidth = temp.getShapeMatrix().get(0).length;
-            int centeredX = (width - brickWidth) / 2;
-            brickOffset = new Point(centeredX, Constants.START_Y);
+            resetPosition();
 
             hasHeldThisTurn = true;
 
@@ -197,17 +223,22 @@ public class SimpleBoard implements Board {
 
     /**
      * Calculates the Y position of the ghost brick (drop position).
+     * Uses the column surface index when the brick is above the stack and only
+     * probes row by row when it is tucked under an overhang.
      *
      * @return the Y coordinate for the ghost brick.
      */
     private int calculateGhostY() {
-        int[][] currentMatrix = MatrixOperations.copy(boardMatrix);
-        int ghostY = (int) brickOffset.getY();
+        int landingY = surface.landingY(brickRotator.getCurrentShape(), brickX, brickY);
+        if (landingY >= 0) {
+            return landingY;
+        }
+        int ghostY = brickY;
         while (true) {
             boolean conflict = MatrixOperations.intersect(
-                    currentMatrix,
+                    boardMatrix,
                     brickRotator.getCurrentShape(),
-                    (int) brickOffset.getX(),
+                    brickX,
                     ghostY + 1);
             if (conflict) {
                 break;
@@ -225,9 +256,9 @@ public class SimpleBoard implements Board {
      */
     @Override
     public ViewData getViewData() {
-        return new ViewData(brickRotator.getCurrentShape(), (int) brickOffset.getX(), (int) brickOffset.getY(),
-                calculateGhostY(), brickGenerator.getNextBrick().getShapeMatrix().get(0),
-                heldBrick != null ? heldBrick.getShapeMatrix().get(0) : null);
+        return new ViewData(brickRotator.getCurrentShape(), brickX, brickY,
+                calculateGhostY(), brickGenerator.getNextBrick().getShapes().get(0),
+                heldBrick != null ? heldBrick.getShapes().get(0) : null);
     }
 
     /**
@@ -236,23 +267,34 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void lockBrickToBoard() {
-        boardMatrix = MatrixOperations.merge(boardMatrix, brickRotator.getCurrentShape(), (int) brickOffset.getX(),
-                (int) brickOffset.getY());
+        PieceShape shape = brickRotator.getCurrentShape();
+        MatrixOperations.mergeInPlace(boardMatrix, shape, brickX, brickY);
+        surface.onMerge(shape, brickX, brickY);
+        rowClearer.onMerge(shape, brickY);
+        packedRows = null;
     }
 
     /**
      * Checks the board for any fully filled rows and removes them.
-     * The board above any cleared rows is shifted downward.
+     * Full rows are found from the per-row fill counts and the board above any
+     * cleared rows is shifted downward in place.
      *
      * @return a ClearRow object containing the number of removed rows,
      *         the updated matrix, and the score bonus earned.
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(boardMatrix);
-        boardMatrix = clearRow.getNewMatrix();
-        return clearRow;
-
+        int lines = rowClearer.clear(boardMatrix);
+        if (lines == 0) {
+            return new ClearRow(0, boardMatrix, 0, Collections.emptyList());
+        }
+        surface.onClear(boardMatrix);
+        packedRows = null;
+        List<Integer> clearedRows = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            clearedRows.add(rowClearer.getClearedRow(i));
+        }
+        return new ClearRow(lines, boardMatrix, 50 * lines * lines, clearedRows);
     }
 
     /**
@@ -273,10 +315,69 @@ public class SimpleBoard implements Board {
     @Override
     public void newGame() {
         boardMatrix = new int[height][width];
-        boardMatrix = new int[height][width];
+        surface.reset();
+        rowClearer.reset();
+        packedRows = null;
         score.reset();
         heldBrick = null;
         hasHeldThisTurn = false;
         createNewBrick();
     }
+
+    /**
+     * Replaces the contents of the board, keeping the current brick.
+     * Used to set up benchmark and test positions.
+     *
+     * @param matrix the board matrix to copy, with the board's dimensions.
+     */
+    void loadMatrix(int[][] matrix) {
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(matrix[y], 0, boardMatrix[y], 0, width);
+        }
+        surface.rebuild(boardMatrix);
+        rowClearer.rebuild(boardMatrix);
+        packedRows = null;
+    }
+
+    /**
+     * Saves the full state of the board. The packed rows are reused while no
+     * brick was locked since the previous snapshot.
+     *
+     * @return the snapshot.
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        if (packedRows == null) {
+            packedRows = BoardSnapshot.pack(boardMatrix);
+        }
+        return new BoardSnapshot(packedRows, brickRotator.getCurrentShape().getPieceId(),
+                brickRotator.getCurrentShapeIndex(), brickX, brickY,
+                heldBrick != null ? heldBrick.getShapes().get(0).getPieceId() : 0, hasHeldThisTurn,
+                brickGenerator.saveState(), score.getValue());
+    }
+
+    /**
+     * Restores a saved state. The cells are only rewritten if they differ from
+     * the snapshot's, which is the case once a brick was locked.
+     *
+     * @param snapshot the snapshot to restore.
+     */
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        if (snapshot.getPackedRows() != packedRows) {
+            snapshot.unpackInto(boardMatrix);
+            surface.rebuild(boardMatrix);
+            rowClearer.rebuild(boardMatrix);
+            packedRows = snapshot.getPackedRows();
+        }
+        brickRotator.setBrick(ShapeTable.getBrick(snapshot.getPieceId()));
+        brickRotator.setCurrentShape(snapshot.getRotation());
+        brickX = snapshot.getX();
+        brickY = snapshot.getY();
+        heldBrick = snapshot.getHeldPieceId() != 0 ? ShapeTable.getBrick(snapshot.getHeldPieceId()) : null;
+        hasHeldThisTurn = snapshot.isHeldThisTurn();
+        brickGenerator.restoreState(snapshot.getGeneratorState());
+        score.reset();
+        score.add(snapshot.getScore());
+    }
 }
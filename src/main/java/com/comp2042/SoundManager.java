@@ -7,7 +7,7 @@ import java.io.IOException;
 /**
  * Manages sound effects and background music for the game using MIDI.
  */
-public class SoundManager {
+public class SoundManager implements SoundPlayer {
 
     private Synthesizer synthesizer;
     private MidiChannel[] channels;
@@ -114,6 +114,7 @@ public class SoundManager {
      *
      * @param column the column index where the drop occurred.
      */
+    @Override
     public void playHardDrop(int column) {
         if (channels == null)
             return;
@@ -139,6 +140,7 @@ public class SoundManager {
      *
      * @param lines the number of lines cleared.
      */
+    @Override
     public void playLineClear(int lines) {
         if (channels == null || lines <= 0)
             return;
@@ -193,6 +195,7 @@ public class SoundManager {
      * Plays the game over sound effect.
      * Stops the background music and plays a dissonant brass cluster.
      */
+    @Override
     public void playGameOver() {
         stopBackgroundMusic(); // Stop BGM
         if (channels == null)
@@ -227,6 +230,7 @@ public class SoundManager {
     /**
      * Plays a sound effect when a brick is held.
      */
+    @Override
     public void playHold() {
         if (channels == null)
             return;
@@ -247,6 +251,7 @@ public class SoundManager {
     /**
      * Stops all currently playing MIDI notes.
      */
+    @Override
     public void stopAllSounds() {
         if (channels == null)
             return;
@@ -261,6 +266,7 @@ public class SoundManager {
      * Plays the background music from the resources.
      * loops indefinitely.
      */
+    @Override
     public void playBackgroundMusic() {
         try {
             String musicFile = "SwingBGM.mp3";
@@ -282,6 +288,7 @@ public class SoundManager {
     /**
      * Stops the background music.
      */
+    @Override
     public void stopBackgroundMusic() {
         if (mediaPlayer != null) {
             mediaPlayer.stop();
@@ -291,6 +298,7 @@ public class SoundManager {
     /**
      * Cleans up resources, closing the synthesizer and stopping music.
      */
+    @Override
     public void cleanup() {
         if (synthesizer != null && synthesizer.isOpen()) {
             synthesizer.close();
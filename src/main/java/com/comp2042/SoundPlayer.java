@@ -0,0 +1,53 @@
+package com.comp2042;
+
+/**
+ * Interface for the game's sound effects and background music.
+ * Implemented by {@link SoundManager}; headless runs such as benchmarks use a
+ * no-op implementation.
+ */
+public interface SoundPlayer {
+
+    /**
+     * Plays a hard drop sound effect for the column of the drop.
+     *
+     * @param column the column index where the drop occurred.
+     */
+    void playHardDrop(int column);
+
+    /**
+     * Plays the sound effect for cleared lines.
+     *
+     * @param lines the number of lines cleared.
+     */
+    void playLineClear(int lines);
+
+    /**
+     * Plays the game over sound effect.
+     */
+    void playGameOver();
+
+    /**
+     * Plays a sound effect when a brick is held.
+     */
+    void playHold();
+
+    /**
+     * Stops all currently playing sounds.
+     */
+    void stopAllSounds();
+
+    /**
+     * Starts the background music.
+     */
+    void playBackgroundMusic();
+
+    /**
+     * Stops the background music.
+     */
+    void stopBackgroundMusic();
+
+    /**
+     * Releases the sound resources.
+     */
+    void cleanup();
+}
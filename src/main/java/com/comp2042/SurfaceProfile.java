@@ -0,0 +1,147 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.PieceShape;
+
+import java.util.Arrays;
+
+/**
+ * Per-column surface index of the board.
+ * Keeps the topmost filled row of every column, updated incrementally when a
+ * brick is merged or rows are cleared, so the landing row of a brick can be
+ * looked up instead of probed one row at a time.
+ */
+public class SurfaceProfile {
+
+    private final int width;
+    private final int height;
+    private final int[] tops;
+
+    /**
+     * Creates an empty surface profile.
+     *
+     * @param width  the board width.
+     * @param height the board height.
+     */
+    public SurfaceProfile(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.tops = new int[width];
+        reset();
+    }
+
+    /**
+     * Marks every column as empty.
+     */
+    public void reset() {
+        Arrays.fill(tops, height);
+    }
+
+    /**
+     * Rebuilds the profile from a full board matrix.
+     *
+     * @param matrix the board matrix.
+     */
+    public void rebuild(int[][] matrix) {
+        reset();
+        for (int col = 0; col < width; col++) {
+            tops[col] = scanDown(matrix, col, 0);
+        }
+    }
+
+    /**
+     * Gets the topmost filled row of a column.
+     *
+     * @param col the board column.
+     * @return the row index, or the board height if the column is empty.
+     */
+    public int getTop(int col) {
+        return tops[col];
+    }
+
+    /**
+     * Gets the stack height of a column.
+     *
+     * @param col the board column.
+     * @return the number of rows from the bottom up to and including the
+     *         topmost filled cell.
+     */
+    public int getHeight(int col) {
+        return height - tops[col];
+    }
+
+    /**
+     * Updates the profile after a brick has been merged into the board.
+     *
+     * @param shape the merged brick shape.
+     * @param x     the x-coordinate of the brick.
+     * @param y     the y-coordinate of the brick.
+     */
+    public void onMerge(PieceShape shape, int x, int y) {
+        for (int col = shape.getMinCol(); col <= shape.getMaxCol(); col++) {
+            if (shape.getColumnTop(col) < 0) {
+                continue;
+            }
+            int top = y + shape.getColumnTop(col);
+            if (top < tops[x + col]) {
+                tops[x + col] = top;
+            }
+        }
+    }
+
+    /**
+     * Updates the profile after full rows have been removed from the board.
+     * Rows only move down when cleared, so each column is rescanned from its
+     * previous top.
+     *
+     * @param matrix the board matrix after clearing.
+     */
+    public void onClear(int[][] matrix) {
+        for (int col = 0; col < width; col++) {
+            tops[col] = scanDown(matrix, col, tops[col]);
+        }
+    }
+
+    /**
+     * Looks up the row a brick would land on when dropped straight down.
+     * The lookup is only exact while every column of the brick is above that
+     * column's surface; a brick tucked under an overhang needs a probe instead.
+     *
+     * @param shape the brick shape.
+     * @param x     the x-coordinate of the brick.
+     * @param y     the current y-coordinate of the brick.
+     * @return the landing y-coordinate, or -1 if the brick is below the surface
+     *         of one of its columns.
+     */
+    public int landingY(PieceShape shape, int x, int y) {
+        int landing = Integer.MAX_VALUE;
+        for (int col = shape.getMinCol(); col <= shape.getMaxCol(); col++) {
+            int bottom = shape.getColumnBottom(col);
+            if (bottom < 0) {
+                continue;
+            }
+            int top = tops[x + col];
+            if (y + bottom >= top) {
+                return -1;
+            }
+            landing = Math.min(landing, top - 1 - bottom);
+        }
+        return landing;
+    }
+
+    /**
+     * Finds the first filled row of a column at or below a starting row.
+     *
+     * @param matrix the board matrix.
+     * @param col    the board column.
+     * @param from   the row to start scanning from.
+     * @return the first filled row, or the board height if none.
+     */
+    private int scanDown(int[][] matrix, int col, int from) {
+        for (int row = from; row < height; row++) {
+            if (matrix[row][col] != 0) {
+                return row;
+            }
+        }
+        return height;
+    }
+}
@@ -1,36 +1,117 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.PieceShape;
+
 /**
  * Data class containing all necessary information to render the game view.
  * Includes current brick, position, ghost position, next brick, and held brick.
+ * The bricks are the immutable shapes shared through the shape table, so the
+ * shape and primitive accessors read them without copying; the matrix
+ * accessors return copies and are kept for callers that need an array.
+ * Each view also carries change stamps computed from its content: two views
+ * with equal stamps draw the same, so a renderer can skip the parts whose
+ * stamp did not change since the last view it drew.
  */
 public final class ViewData {
 
-    private final int[][] brickData;
+    private final PieceShape brickData;
     private final int xPosition;
     private final int yPosition;
     private final int ghostY;
-    private final int[][] nextBrickData;
-    private final int[][] heldBrickData;
+    private final PieceShape nextBrickData;
+    private final PieceShape heldBrickData;
+    private final long brickStamp;
+    private final int previewStamp;
 
     /**
      * Constructs a new ViewData object.
      *
-     * @param brickData     the matrix of the current falling brick.
+     * @param brickData     the shape of the current falling brick.
      * @param xPosition     the x coordinate of the brick.
      * @param yPosition     the y coordinate of the brick.
      * @param ghostY        the y coordinate of the ghost brick.
-     * @param nextBrickData the matrix of the next upcoming brick.
-     * @param heldBrickData the matrix of the currently held brick.
+     * @param nextBrickData the shape of the next upcoming brick.
+     * @param heldBrickData the shape of the currently held brick, or null.
      */
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int ghostY, int[][] nextBrickData,
-            int[][] heldBrickData) {
+    public ViewData(PieceShape brickData, int xPosition, int yPosition, int ghostY, PieceShape nextBrickData,
+            PieceShape heldBrickData) {
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.ghostY = ghostY;
         this.nextBrickData = nextBrickData;
         this.heldBrickData = heldBrickData;
+        this.brickStamp = ((long) brickData.getPieceId() << 40) | ((long) brickData.getRotation() << 32)
+                | ((xPosition & 0xFFFFL) << 16) | ((yPosition & 0xFFL) << 8) | (ghostY & 0xFFL);
+        this.previewStamp = (nextBrickData.getPieceId() << 8)
+                | (heldBrickData != null ? heldBrickData.getPieceId() : 0);
+    }
+
+    /**
+     * Gets the shape of the current brick.
+     *
+     * @return the shared, immutable shape.
+     */
+    public PieceShape getBrickShape() {
+        return brickData;
+    }
+
+    /**
+     * Gets the size of the current brick's shape matrix.
+     *
+     * @return the number of rows and columns.
+     */
+    public int getBrickSize() {
+        return brickData.getSize();
+    }
+
+    /**
+     * Gets the color of one cell of the current brick's shape matrix.
+     *
+     * @param row the row in the shape matrix.
+     * @param col the column in the shape matrix.
+     * @return the color index, or 0 if the cell is empty.
+     */
+    public int getBrickCell(int row, int col) {
+        return brickData.getCell(row, col);
+    }
+
+    /**
+     * Gets the shape of the next brick.
+     *
+     * @return the shared, immutable shape.
+     */
+    public PieceShape getNextShape() {
+        return nextBrickData;
+    }
+
+    /**
+     * Gets the shape of the held brick.
+     *
+     * @return the shared, immutable shape, or null if none is held.
+     */
+    public PieceShape getHeldShape() {
+        return heldBrickData;
+    }
+
+    /**
+     * Gets the change stamp of the current brick and its ghost: equal stamps
+     * mean the same shape, rotation, position and ghost position.
+     *
+     * @return the brick stamp.
+     */
+    public long getBrickStamp() {
+        return brickStamp;
+    }
+
+    /**
+     * Gets the change stamp of the next and held bricks: equal stamps mean
+     * the same previews.
+     *
+     * @return the preview stamp.
+     */
+    public int getPreviewStamp() {
+        return previewStamp;
     }
 
     /**
@@ -39,7 +120,7 @@ public final class ViewData {
      * @return a copy of the brick matrix.
      */
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return brickData.toMatrix();
     }
 
     /**
@@ -75,7 +156,7 @@ public final class ViewData {
      * @return a copy of the next brick matrix.
      */
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return nextBrickData.toMatrix();
     }
 
     /**
@@ -84,6 +165,6 @@ public final class ViewData {
      * @return a copy of the held brick matrix, or null if none is held.
      */
     public int[][] getHeldBrickData() {
-        return heldBrickData != null ? MatrixOperations.copy(heldBrickData) : null;
+        return heldBrickData != null ? heldBrickData.toMatrix() : null;
     }
 }
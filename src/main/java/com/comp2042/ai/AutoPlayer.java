@@ -0,0 +1,270 @@
+package com.comp2042.ai;
+
+import com.comp2042.Board;
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.InputEventListener;
+import com.comp2042.LevelConfig;
+import com.comp2042.MoveEvent;
+import com.comp2042.ViewData;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Computer player that sits between the view and the game's
+ * {@link InputEventListener}.
+ * Whenever a new brick spawns, the board is captured and a {@link Planner},
+ * by default a {@link BeamSearch}, runs in the background on a work-stealing
+ * pool, limited to half the gravity delay of the fastest level so a plan is
+ * always ready before the brick falls a row. The default search caches
+ * evaluations in a {@link TranspositionTable} shared by its threads. On the
+ * first gravity tick after the plan is ready, the planned moves are sent to
+ * the delegate in place of the tick, ending with a hard drop.
+ * Key presses are still forwarded, so a player can interfere with the bot.
+ */
+public class AutoPlayer implements InputEventListener {
+
+    /**
+     * Default time a search may take per brick, in nanoseconds.
+     */
+    public static final long DEFAULT_BUDGET_NANOS =
+            (long) (LevelConfig.getSpeedForLevel(Integer.MAX_VALUE) * 1_000_000L / 2);
+
+    /**
+     * Default number of boards kept per search depth.
+     */
+    public static final int DEFAULT_BEAM_WIDTH = 16;
+
+    /**
+     * Default number of bricks searched ahead, including the active one.
+     */
+    public static final int DEFAULT_DEPTH = 4;
+
+    /**
+     * Number of evaluations cached between searches.
+     */
+    public static final int TABLE_CAPACITY = 1 << 16;
+
+    private final InputEventListener delegate;
+    private final Board board;
+    private final Planner planner;
+    private final ForkJoinPool pool;
+    private final int preview;
+    private final long budgetNanos;
+    private final PlacementEnumerator enumerator = new PlacementEnumerator();
+    private CompletableFuture<Plan> pending;
+
+    /**
+     * Constructs a new AutoPlayer with the default search settings, using
+     * every available core.
+     *
+     * @param delegate the listener applying the moves to the game.
+     * @param board    the board of the game, read on the calling thread.
+     */
+    public AutoPlayer(InputEventListener delegate, Board board) {
+        this(delegate, board, new HeuristicEvaluator(), DEFAULT_BEAM_WIDTH, DEFAULT_DEPTH, new ForkJoinPool(),
+                DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Constructs a new AutoPlayer.
+     *
+     * @param delegate    the listener applying the moves to the game.
+     * @param board       the board of the game, read on the calling thread.
+     * @param evaluator   the evaluator scoring candidate boards.
+     * @param beamWidth   the number of boards kept per search depth.
+     * @param depth       the number of bricks searched ahead.
+     * @param pool        the pool running the searches, shut down when the
+     *                    game stops.
+     * @param budgetNanos the time a search may take per brick.
+     */
+    public AutoPlayer(InputEventListener delegate, Board board, BoardEvaluator evaluator, int beamWidth, int depth,
+            ForkJoinPool pool, long budgetNanos) {
+        this(delegate, board, new BeamSearch(evaluator, beamWidth, depth, pool,
+                new TranspositionTable(TABLE_CAPACITY, pool.getParallelism() * 4)), pool, depth, budgetNanos);
+    }
+
+    /**
+     * Constructs a new AutoPlayer using any planner.
+     *
+     * @param delegate    the listener applying the moves to the game.
+     * @param board       the board of the game, read on the calling thread.
+     * @param planner     the planner choosing the moves.
+     * @param pool        the pool running the planner, shut down when the
+     *                    game stops.
+     * @param preview     the number of upcoming bricks passed to the planner.
+     * @param budgetNanos the time a search may take per brick.
+     */
+    public AutoPlayer(InputEventListener delegate, Board board, Planner planner, ForkJoinPool pool, int preview,
+            long budgetNanos) {
+        this.delegate = delegate;
+        this.board = board;
+        this.planner = planner;
+        this.pool = pool;
+        this.preview = preview;
+        this.budgetNanos = budgetNanos;
+        startPlanning();
+    }
+
+    /**
+     * Captures the board and starts searching for the active brick's move in
+     * the background, replacing any previous plan.
+     */
+    private void startPlanning() {
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        SearchRoot root = SearchRoot.of(board, preview);
+        long deadline = System.nanoTime() + budgetNanos;
+        pending = CompletableFuture.supplyAsync(() -> planner.search(root, deadline), pool);
+    }
+
+    /**
+     * Plays the planned move if the search has finished.
+     *
+     * @return the result of the hard drop, or null if no move was played.
+     */
+    private DownData playPlan() {
+        if (pending == null || !pending.isDone() || pending.isCompletedExceptionally()) {
+            return null;
+        }
+        Plan plan = pending.join();
+        pending = null;
+        if (plan == null) {
+            return null;
+        }
+        if (plan.isHold()) {
+            delegate.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER));
+        }
+        Placements placements = enumerator.enumerate(board);
+        int target = placements.find(plan.getRotation(), plan.getX(), plan.getY());
+        if (target < 0) {
+            startPlanning();
+            return null;
+        }
+        for (int step = 0; step < placements.getPathLength(target) - 1; step++) {
+            EventType input = placements.getPathStep(target, step);
+            MoveEvent event = new MoveEvent(input, EventSource.USER);
+            switch (input) {
+                case LEFT:
+                    delegate.onLeftEvent(event);
+                    break;
+                case RIGHT:
+                    delegate.onRightEvent(event);
+                    break;
+                case ROTATE:
+                    delegate.onRotateEvent(event);
+                    break;
+                case DOWN:
+                    delegate.onDownEvent(event);
+                    break;
+                default:
+                    break;
+            }
+        }
+        DownData data = delegate.onDropEvent(new MoveEvent(EventType.DROP, EventSource.USER));
+        startPlanning();
+        return data;
+    }
+
+    /**
+     * Plays the planned move on a gravity tick once it is ready, otherwise
+     * forwards the event. Replans whenever the brick locks.
+     *
+     * @param event the move event.
+     * @return the result of the move.
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        if (event.getEventSource() == EventSource.THREAD) {
+            DownData played = playPlan();
+            if (played != null) {
+                return played;
+            }
+        }
+        DownData data = delegate.onDownEvent(event);
+        if (data.getClearRow() != null) {
+            startPlanning();
+        }
+        return data;
+    }
+
+    /**
+     * Forwards the event.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        return delegate.onLeftEvent(event);
+    }
+
+    /**
+     * Forwards the event.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        return delegate.onRightEvent(event);
+    }
+
+    /**
+     * Forwards the event.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        return delegate.onRotateEvent(event);
+    }
+
+    /**
+     * Forwards the event and replans for the brick that spawns next.
+     *
+     * @param event the move event.
+     * @return the result of the drop movement.
+     */
+    @Override
+    public DownData onDropEvent(MoveEvent event) {
+        DownData data = delegate.onDropEvent(event);
+        startPlanning();
+        return data;
+    }
+
+    /**
+     * Forwards the event and replans for the brick taken out of hold.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        ViewData data = delegate.onHoldEvent(event);
+        startPlanning();
+        return data;
+    }
+
+    /**
+     * Starts a new game and plans its first brick.
+     */
+    @Override
+    public void createNewGame() {
+        delegate.createNewGame();
+        startPlanning();
+    }
+
+    /**
+     * Stops the game and the search threads.
+     */
+    @Override
+    public void stopGame() {
+        pool.shutdownNow();
+        delegate.stopGame();
+    }
+}
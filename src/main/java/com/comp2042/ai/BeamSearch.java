@@ -0,0 +1,350 @@
+package com.comp2042.ai;
+
+import com.comp2042.Constants;
+import com.comp2042.RowMasks;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Beam search over the active brick, the hold slot and the preview queue.
+ * Each depth places one more brick: every board in the beam is expanded with
+ * all reachable placements of its next brick, with and without holding, and
+ * only the best {@code beamWidth} children are kept. Expansion runs in
+ * parallel on a work-stealing {@link ForkJoinPool} when one is given.
+ * The search stops at the deadline; the first depth always completes, and a
+ * depth cut short by the deadline is discarded in favour of the last complete
+ * one. Interrupting the thread that called {@link #search} abandons the
+ * search, including expansions running on the pool, so a caller can cancel
+ * a search whose result is no longer needed.
+ * Children are identified by {@link Zobrist} state keys. Placement orders
+ * that transpose to the same state are kept in the beam only once, and with
+ * a {@link TranspositionTable} their evaluations are shared between threads
+ * and between searches.
+ */
+public class BeamSearch implements Planner {
+
+    private static final Comparator<Node> BEST_FIRST = Comparator.comparingDouble((Node node) -> node.score)
+            .reversed();
+
+    private final BoardEvaluator evaluator;
+    private final int beamWidth;
+    private final int depth;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+    private final ThreadLocal<PlacementEnumerator> enumerators = ThreadLocal.withInitial(PlacementEnumerator::new);
+
+    /**
+     * Constructs a new BeamSearch.
+     *
+     * @param evaluator the evaluator scoring candidate boards.
+     * @param beamWidth the number of boards kept per depth.
+     * @param depth     the maximum number of bricks to look ahead.
+     * @param pool      the pool expanding boards in parallel, or null to search
+     *                  on the calling thread.
+     */
+    public BeamSearch(BoardEvaluator evaluator, int beamWidth, int depth, ForkJoinPool pool) {
+        this(evaluator, beamWidth, depth, pool, null);
+    }
+
+    /**
+     * Constructs a new BeamSearch that caches evaluations.
+     *
+     * @param evaluator the evaluator scoring candidate boards.
+     * @param beamWidth the number of boards kept per depth.
+     * @param depth     the maximum number of bricks to look ahead.
+     * @param pool      the pool expanding boards in parallel, or null to search
+     *                  on the calling thread.
+     * @param table     the cache of evaluations, or null to evaluate every
+     *                  board.
+     */
+    public BeamSearch(BoardEvaluator evaluator, int beamWidth, int depth, ForkJoinPool pool,
+            TranspositionTable table) {
+        this.evaluator = evaluator;
+        this.beamWidth = beamWidth;
+        this.depth = depth;
+        this.pool = pool;
+        this.table = table;
+    }
+
+    /**
+     * Searches for the best move of the root's active brick.
+     *
+     * @param root     the state to search from.
+     * @param deadline the {@link System#nanoTime()} by which to stop.
+     * @return the best plan found, or null if the brick has no placement or
+     *         the search was interrupted during the first depth.
+     */
+    @Override
+    public Plan search(SearchRoot root, long deadline) {
+        if (table != null) {
+            table.nextGeneration();
+        }
+        List<Node> beam = new ArrayList<>();
+        beam.add(new Node(root.createBoard(), 0, 0, root.getPieceId(), root.getHeldPieceId(), root.canHold(), 0,
+                0, null));
+        Plan plan = null;
+        AtomicBoolean cancelled = new AtomicBoolean();
+        for (int d = 1; d <= depth && !beam.isEmpty(); d++) {
+            List<Node> children = expandAll(root, beam, d == 1 ? Long.MAX_VALUE : deadline, cancelled);
+            if (children == null || children.isEmpty()) {
+                break;
+            }
+            children.sort(BEST_FIRST);
+            Node best = children.get(0);
+            plan = new Plan(best.first.hold, best.first.x, best.first.y, best.first.rotation, best.score, d);
+
+            beam = new ArrayList<>(beamWidth);
+            for (int i = 0; i < children.size() && beam.size() < beamWidth; i++) {
+                Node child = children.get(i);
+                if (child.pieceId != 0 && !containsKey(beam, child.key)) {
+                    beam.add(child);
+                }
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Checks if the beam already holds a state.
+     *
+     * @param beam the nodes kept so far.
+     * @param key  the state key.
+     * @return true if a node with the key is in the beam.
+     */
+    private static boolean containsKey(List<Node> beam, long key) {
+        for (Node node : beam) {
+            if (node.key == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Expands every node of the beam, in parallel if a pool is available.
+     * Pool workers cannot see the caller's interrupt flag, so an interrupt of
+     * the caller, before or while it waits for the pool, is passed to them
+     * through the cancelled flag.
+     *
+     * @param root      the state the search started from.
+     * @param beam      the nodes to expand.
+     * @param deadline  the {@link System#nanoTime()} by which to stop.
+     * @param cancelled the flag telling expansions to give up.
+     * @return all children, or null if the deadline passed or the caller was
+     *         interrupted before every node was expanded.
+     */
+    private List<Node> expandAll(SearchRoot root, List<Node> beam, long deadline, AtomicBoolean cancelled) {
+        List<List<Node>> expanded;
+        if (pool == null || beam.size() == 1) {
+            expanded = new ArrayList<>(beam.size());
+            for (Node node : beam) {
+                expanded.add(expand(root, node, deadline, cancelled));
+            }
+        } else {
+            if (Thread.currentThread().isInterrupted()) {
+                cancelled.set(true);
+            }
+            ForkJoinTask<List<List<Node>>> task = pool.submit(() -> beam.parallelStream()
+                    .map(node -> expand(root, node, deadline, cancelled))
+                    .collect(Collectors.toList()));
+            try {
+                expanded = task.get();
+            } catch (InterruptedException e) {
+                cancelled.set(true);
+                task.join();
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Beam expansion failed", e.getCause());
+            }
+        }
+        List<Node> children = new ArrayList<>();
+        for (List<Node> list : expanded) {
+            if (list == null) {
+                return null;
+            }
+            children.addAll(list);
+        }
+        return children;
+    }
+
+    /**
+     * Expands a node with every placement of its brick, and of the brick it
+     * would get by holding.
+     *
+     * @param root      the state the search started from.
+     * @param node      the node to expand.
+     * @param deadline  the {@link System#nanoTime()} by which to stop.
+     * @param cancelled the flag set once the caller was interrupted.
+     * @return the children, or null if the deadline has passed or the search
+     *         was cancelled or the thread interrupted.
+     */
+    private List<Node> expand(SearchRoot root, Node node, long deadline, AtomicBoolean cancelled) {
+        if (System.nanoTime() > deadline || cancelled.get() || Thread.currentThread().isInterrupted()) {
+            return null;
+        }
+        List<Node> children = new ArrayList<>();
+        boolean isRoot = node.first == null;
+        if (isRoot) {
+            addChildren(root, node, children, false, node.pieceId, root.getRotation(), root.getX(), root.getY(),
+                    node.heldPieceId, node.queueIndex);
+        } else {
+            addChildren(root, node, children, false, node.pieceId, 0, spawnX(node.pieceId), Constants.START_Y,
+                    node.heldPieceId, node.queueIndex);
+        }
+        if (node.canHold) {
+            if (node.heldPieceId != 0) {
+                addChildren(root, node, children, true, node.heldPieceId, 0, spawnX(node.heldPieceId),
+                        Constants.START_Y, node.pieceId, node.queueIndex);
+            } else if (node.queueIndex < root.getQueueSize()) {
+                int next = root.getQueuedPieceId(node.queueIndex);
+                addChildren(root, node, children, true, next, 0, spawnX(next), Constants.START_Y, node.pieceId,
+                        node.queueIndex + 1);
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Adds a child for every reachable placement of one brick.
+     *
+     * @param root        the state the search started from.
+     * @param parent      the node being expanded.
+     * @param children    the list receiving the children.
+     * @param hold        whether the brick was obtained by holding.
+     * @param pieceId     the id of the brick to place.
+     * @param rotation    the rotation index the brick starts in.
+     * @param x           the x-coordinate the brick starts at.
+     * @param y           the y-coordinate the brick starts at.
+     * @param heldPieceId the id of the held brick after this move.
+     * @param queueIndex  the queue position of the brick after this one.
+     */
+    private void addChildren(SearchRoot root, Node parent, List<Node> children, boolean hold, int pieceId,
+            int rotation, int x, int y, int heldPieceId, int queueIndex) {
+        Placements placements = enumerators.get().enumerate(parent.board.getRows(), pieceId, rotation, x, y);
+        int nextPiece = queueIndex < root.getQueueSize() ? root.getQueuedPieceId(queueIndex) : 0;
+        for (int i = 0; i < placements.size(); i++) {
+            SearchBoard board = parent.board.copy();
+            int lines = parent.lines + board.place(ShapeTable.getShape(pieceId, placements.getRotation(i)),
+                    placements.getX(i), placements.getY(i));
+            if (nextPiece != 0 && RowMasks.intersects(board.getRows(), ShapeTable.getShape(nextPiece, 0),
+                    spawnX(nextPiece), Constants.START_Y)) {
+                continue;
+            }
+            long key = Zobrist.stateKey(board.getHash(), nextPiece, heldPieceId,
+                    root.getQueuePosition() + queueIndex, lines);
+            Move first = parent.first != null ? parent.first
+                    : new Move(hold, placements.getX(i), placements.getY(i), placements.getRotation(i));
+            children.add(new Node(board, evaluate(board, lines, key), lines, nextPiece, heldPieceId, true,
+                    queueIndex + 1, key, first));
+        }
+    }
+
+    /**
+     * Evaluates a board, reusing a cached evaluation of the same state.
+     *
+     * @param board the board.
+     * @param lines the rows cleared since the root.
+     * @param key   the state key.
+     * @return the score.
+     */
+    private double evaluate(SearchBoard board, int lines, long key) {
+        if (table == null) {
+            return evaluator.evaluate(board, lines);
+        }
+        double score = table.get(key);
+        if (Double.isNaN(score)) {
+            score = evaluator.evaluate(board, lines);
+            table.put(key, score);
+        }
+        return score;
+    }
+
+    /**
+     * Gets the x-coordinate a brick spawns at.
+     *
+     * @param pieceId the id of the brick.
+     * @return the spawn column.
+     */
+    private static int spawnX(int pieceId) {
+        return (Constants.BOARD_WIDTH - ShapeTable.getShape(pieceId, 0).getSize()) / 2;
+    }
+
+    /**
+     * The first move of a line of play.
+     */
+    private static final class Move {
+
+        private final boolean hold;
+        private final int x;
+        private final int y;
+        private final int rotation;
+
+        /**
+         * Constructs a new Move.
+         *
+         * @param hold     whether the active brick is held first.
+         * @param x        the x-coordinate the brick locks at.
+         * @param y        the y-coordinate the brick locks at.
+         * @param rotation the rotation index the brick locks in.
+         */
+        private Move(boolean hold, int x, int y, int rotation) {
+            this.hold = hold;
+            this.x = x;
+            this.y = y;
+            this.rotation = rotation;
+        }
+    }
+
+    /**
+     * A board reached by a line of play, with the brick to place next.
+     */
+    private static final class Node {
+
+        private final SearchBoard board;
+        private final double score;
+        private final int lines;
+        private final int pieceId;
+        private final int heldPieceId;
+        private final boolean canHold;
+        private final int queueIndex;
+        private final long key;
+        private final Move first;
+
+        /**
+         * Constructs a new Node.
+         *
+         * @param board       the board after the line of play.
+         * @param score       the evaluation of the board.
+         * @param lines       the rows cleared along the line of play.
+         * @param pieceId     the id of the brick to place next, or 0 if the
+         *                    preview is exhausted.
+         * @param heldPieceId the id of the held brick, or 0 if none is held.
+         * @param canHold     whether the next brick may be held.
+         * @param queueIndex  the queue position of the brick after the next one.
+         * @param key         the state key.
+         * @param first       the first move of the line of play, or null for
+         *                    the root.
+         */
+        private Node(SearchBoard board, double score, int lines, int pieceId, int heldPieceId, boolean canHold,
+                int queueIndex, long key, Move first) {
+            this.board = board;
+            this.score = score;
+            this.lines = lines;
+            this.pieceId = pieceId;
+            this.heldPieceId = heldPieceId;
+            this.canHold = canHold;
+            this.queueIndex = queueIndex;
+            this.key = key;
+            this.first = first;
+        }
+    }
+}
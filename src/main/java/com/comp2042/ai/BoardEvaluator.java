@@ -0,0 +1,19 @@
+package com.comp2042.ai;
+
+/**
+ * Scores a board reached by a search. Higher scores are better.
+ * Implementations are called from several search threads at once and must
+ * not keep mutable state.
+ */
+public interface BoardEvaluator {
+
+    /**
+     * Scores a board.
+     *
+     * @param board        the board after the placements.
+     * @param linesCleared the rows cleared by the placements leading to the
+     *                     board.
+     * @return the score.
+     */
+    double evaluate(SearchBoard board, int linesCleared);
+}
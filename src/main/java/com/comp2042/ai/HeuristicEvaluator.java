@@ -0,0 +1,85 @@
+package com.comp2042.ai;
+
+/**
+ * Evaluator scoring a board as a weighted sum of the features kept by
+ * {@link SearchBoard}, plus the lines cleared on the way to it.
+ * Reading the features costs a few field loads, so evaluation does not scan
+ * the board and does not allocate. Weights are given as a vector indexed by
+ * the feature constants, so they can be tuned and stored as plain arrays.
+ */
+public class HeuristicEvaluator implements BoardEvaluator {
+
+    public static final int AGGREGATE_HEIGHT = 0;
+    public static final int HOLES = 1;
+    public static final int BUMPINESS = 2;
+    public static final int ROW_TRANSITIONS = 3;
+    public static final int COLUMN_TRANSITIONS = 4;
+    public static final int WELLS = 5;
+    public static final int LINES = 6;
+
+    /**
+     * Number of weighted features.
+     */
+    public static final int FEATURE_COUNT = 7;
+
+    private static final double[] DEFAULT_WEIGHTS = {
+            -0.51, -0.36, -0.18, -0.30, -0.90, -0.34, 0.76
+    };
+
+    private final double[] weights;
+
+    /**
+     * Constructs an evaluator with the default weights.
+     */
+    public HeuristicEvaluator() {
+        this(DEFAULT_WEIGHTS);
+    }
+
+    /**
+     * Constructs an evaluator with the given weights.
+     *
+     * @param weights one weight per feature, indexed by the feature constants.
+     */
+    public HeuristicEvaluator(double[] weights) {
+        if (weights.length != FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + FEATURE_COUNT + " weights, got " + weights.length);
+        }
+        this.weights = weights.clone();
+    }
+
+    /**
+     * Gets the default weights.
+     *
+     * @return a copy of the default weight vector.
+     */
+    public static double[] getDefaultWeights() {
+        return DEFAULT_WEIGHTS.clone();
+    }
+
+    /**
+     * Gets the weights of this evaluator.
+     *
+     * @return a copy of the weight vector.
+     */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+
+    /**
+     * Scores a board by the weighted sum of its features.
+     *
+     * @param board        the board after the placements.
+     * @param linesCleared the rows cleared by the placements.
+     * @return the score.
+     */
+    @Override
+    public double evaluate(SearchBoard board, int linesCleared) {
+        return weights[AGGREGATE_HEIGHT] * board.getAggregateHeight()
+                + weights[HOLES] * board.getHoles()
+                + weights[BUMPINESS] * board.getBumpiness()
+                + weights[ROW_TRANSITIONS] * board.getRowTransitions()
+                + weights[COLUMN_TRANSITIONS] * board.getColumnTransitions()
+                + weights[WELLS] * board.getWells()
+                + weights[LINES] * linesCleared;
+    }
+}
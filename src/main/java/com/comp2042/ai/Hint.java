@@ -0,0 +1,102 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * Immutable placement suggested by a {@link HintEngine}: the brick to place,
+ * after holding if {@link #isHold()} is set, and where it should lock.
+ * Each hint records the request it answers, so a hint computed for an
+ * earlier state of the game can be recognized and ignored.
+ */
+public final class Hint {
+
+    private final long request;
+    private final boolean hold;
+    private final int pieceId;
+    private final int rotation;
+    private final int x;
+    private final int y;
+
+    /**
+     * Constructs a new Hint.
+     *
+     * @param request  the number of the request the hint answers.
+     * @param hold     whether the active brick should be held first.
+     * @param pieceId  the id of the brick to place.
+     * @param rotation the rotation index to lock the brick in.
+     * @param x        the x-coordinate to lock the brick at.
+     * @param y        the y-coordinate to lock the brick at.
+     */
+    public Hint(long request, boolean hold, int pieceId, int rotation, int x, int y) {
+        this.request = request;
+        this.hold = hold;
+        this.pieceId = pieceId;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Gets the number of the request the hint answers.
+     *
+     * @return the request number.
+     */
+    public long getRequest() {
+        return request;
+    }
+
+    /**
+     * Checks if the active brick should be held first.
+     *
+     * @return true if the hint places the brick taken out of hold.
+     */
+    public boolean isHold() {
+        return hold;
+    }
+
+    /**
+     * Gets the id of the brick to place.
+     *
+     * @return the piece id.
+     */
+    public int getPieceId() {
+        return pieceId;
+    }
+
+    /**
+     * Gets the rotation index to lock the brick in.
+     *
+     * @return the rotation index.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the x-coordinate to lock the brick at.
+     *
+     * @return the target x position.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y-coordinate to lock the brick at.
+     *
+     * @return the target y position.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the shape of the brick in the suggested rotation.
+     *
+     * @return the shared shape.
+     */
+    public PieceShape getShape() {
+        return ShapeTable.getShape(pieceId, rotation);
+    }
+}
@@ -0,0 +1,292 @@
+package com.comp2042.ai;
+
+import com.comp2042.Board;
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.InputEventListener;
+import com.comp2042.MoveEvent;
+import com.comp2042.ViewData;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Background search for the player's hint overlay, sitting between the view
+ * and the game's {@link InputEventListener} like {@link AutoPlayer}.
+ * After every input, the board is captured on the calling thread and a short
+ * {@link BeamSearch} over the active and the next brick starts on a single
+ * low-priority daemon thread, interrupting the search for the previous input.
+ * Gravity ticks only restart the search when the brick locks, since moving
+ * the brick down does not change where it should go.
+ * A finished search is published as an immutable {@link Hint} through an
+ * {@link AtomicReference}, so the view reads it without locking and without
+ * waiting for the search. Hints are numbered by the request they answer, and
+ * a hint for an outdated request is never returned.
+ */
+public class HintEngine implements InputEventListener {
+
+    /**
+     * Number of boards kept per search depth.
+     */
+    public static final int BEAM_WIDTH = 8;
+
+    /**
+     * Number of bricks searched ahead: the active brick and the next one.
+     */
+    public static final int DEPTH = 2;
+
+    /**
+     * Time a search may take per request, in nanoseconds.
+     */
+    public static final long BUDGET_NANOS = AutoPlayer.DEFAULT_BUDGET_NANOS;
+
+    private static final int TABLE_CAPACITY = 1 << 14;
+
+    private final InputEventListener delegate;
+    private final Board board;
+    private final Planner planner;
+    private final ExecutorService executor;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicReference<Hint> latest = new AtomicReference<>();
+    private volatile boolean enabled;
+    private volatile Runnable onHint;
+    private Future<?> pending;
+
+    /**
+     * Constructs a new HintEngine, initially disabled.
+     *
+     * @param delegate the listener applying the input to the game.
+     * @param board    the board of the game, read on the calling thread.
+     */
+    public HintEngine(InputEventListener delegate, Board board) {
+        this(delegate, board, new BeamSearch(new HeuristicEvaluator(), BEAM_WIDTH, DEPTH, null,
+                new TranspositionTable(TABLE_CAPACITY, 1)));
+    }
+
+    /**
+     * Constructs a new HintEngine using any planner, initially disabled.
+     *
+     * @param delegate the listener applying the input to the game.
+     * @param board    the board of the game, read on the calling thread.
+     * @param planner  the planner choosing the hinted placement, run on the
+     *                 engine's thread.
+     */
+    public HintEngine(InputEventListener delegate, Board board, Planner planner) {
+        this.delegate = delegate;
+        this.board = board;
+        this.planner = planner;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hint-engine");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Turns the hints on or off. Turning them on starts a search for the
+     * current brick right away.
+     *
+     * @param enabled true to compute and show hints.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled) {
+            ponder();
+        } else {
+            cancel();
+        }
+    }
+
+    /**
+     * Checks if hints are turned on.
+     *
+     * @return true if hints are computed.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the callback run on the engine's thread whenever a new hint is
+     * published, e.g. to schedule a repaint on the UI thread.
+     *
+     * @param onHint the callback, or null for none.
+     */
+    public void setOnHint(Runnable onHint) {
+        this.onHint = onHint;
+    }
+
+    /**
+     * Gets the hint for the latest input without blocking.
+     *
+     * @return the hint, or null if hints are off or the search for the latest
+     *         input has not finished.
+     */
+    public Hint getHint() {
+        Hint hint = latest.get();
+        if (!enabled || hint == null || hint.getRequest() != requests.get()) {
+            return null;
+        }
+        return hint;
+    }
+
+    /**
+     * Invalidates the current hint and interrupts the running search.
+     *
+     * @return the number of the new request.
+     */
+    private long cancel() {
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+        return requests.incrementAndGet();
+    }
+
+    /**
+     * Captures the board and starts searching for the active brick's hint in
+     * the background, replacing the search for any earlier input.
+     */
+    private void ponder() {
+        long request = cancel();
+        if (!enabled || executor.isShutdown()) {
+            return;
+        }
+        SearchRoot root = SearchRoot.of(board, DEPTH - 1);
+        pending = executor.submit(() -> {
+            Plan plan = planner.search(root, System.nanoTime() + BUDGET_NANOS);
+            if (plan != null && !Thread.currentThread().isInterrupted()) {
+                publish(request, root, plan);
+            }
+        });
+    }
+
+    /**
+     * Publishes a finished search if no newer input has arrived since it
+     * started.
+     *
+     * @param request the number of the request the search answers.
+     * @param root    the state the search started from.
+     * @param plan    the search result.
+     */
+    private void publish(long request, SearchRoot root, Plan plan) {
+        int pieceId = root.getPieceId();
+        if (plan.isHold()) {
+            pieceId = root.getHeldPieceId() != 0 ? root.getHeldPieceId() : root.getQueuedPieceId(0);
+        }
+        if (requests.get() != request) {
+            return;
+        }
+        latest.set(new Hint(request, plan.isHold(), pieceId, plan.getRotation(), plan.getX(), plan.getY()));
+        Runnable callback = onHint;
+        if (callback != null) {
+            callback.run();
+        }
+    }
+
+    /**
+     * Forwards the event and restarts the search if it was a key press or
+     * the brick locked.
+     *
+     * @param event the move event.
+     * @return the result of the down movement.
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        DownData data = delegate.onDownEvent(event);
+        if (event.getEventSource() != EventSource.THREAD || data.getClearRow() != null) {
+            ponder();
+        }
+        return data;
+    }
+
+    /**
+     * Forwards the event and restarts the search.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        ViewData data = delegate.onLeftEvent(event);
+        ponder();
+        return data;
+    }
+
+    /**
+     * Forwards the event and restarts the search.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        ViewData data = delegate.onRightEvent(event);
+        ponder();
+        return data;
+    }
+
+    /**
+     * Forwards the event and restarts the search.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        ViewData data = delegate.onRotateEvent(event);
+        ponder();
+        return data;
+    }
+
+    /**
+     * Forwards the event and starts the search for the brick that spawns
+     * next.
+     *
+     * @param event the move event.
+     * @return the result of the drop movement.
+     */
+    @Override
+    public DownData onDropEvent(MoveEvent event) {
+        DownData data = delegate.onDropEvent(event);
+        ponder();
+        return data;
+    }
+
+    /**
+     * Forwards the event and restarts the search for the brick taken out of
+     * hold.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        ViewData data = delegate.onHoldEvent(event);
+        ponder();
+        return data;
+    }
+
+    /**
+     * Starts a new game and searches for its first brick.
+     */
+    @Override
+    public void createNewGame() {
+        delegate.createNewGame();
+        ponder();
+    }
+
+    /**
+     * Stops the game and the search thread.
+     */
+    @Override
+    public void stopGame() {
+        cancel();
+        executor.shutdownNow();
+        delegate.stopGame();
+    }
+}
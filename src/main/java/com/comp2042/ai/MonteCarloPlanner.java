@@ -0,0 +1,193 @@
+package com.comp2042.ai;
+
+import com.comp2042.Constants;
+import com.comp2042.logic.bricks.GeneratorState;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Planner that scores each placement of the active brick by Monte Carlo
+ * rollouts instead of a single static evaluation.
+ * A rollout continues from the candidate board with randomized placements
+ * for a fixed number of bricks and evaluates the board it ends on. The bricks come
+ * from a {@link SeededBrickGenerator} restored from the game's generator
+ * state with a fresh seed, so each rollout deals the known preview first and
+ * then a sampled continuation of the 7-bag. Rollouts run in rounds on a
+ * fork-join pool, one task per candidate, until the deadline; each
+ * candidate's score is the mean over its rollouts.
+ * The hold slot is not considered.
+ */
+public class MonteCarloPlanner implements Planner {
+
+    /**
+     * Default number of bricks placed per rollout.
+     */
+    public static final int DEFAULT_ROLLOUT_LENGTH = 3;
+
+    /**
+     * Score of a rollout that tops out.
+     */
+    private static final double TOP_OUT_SCORE = -1_000;
+
+    private static final int ROLLOUTS_PER_TASK = 4;
+
+    /**
+     * Number of random placements a rollout compares before placing the best
+     * of them.
+     */
+    private static final int TOURNAMENT_SIZE = 4;
+
+    private final BoardEvaluator evaluator;
+    private final int rolloutLength;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+    /**
+     * Constructs a new MonteCarloPlanner.
+     *
+     * @param evaluator     the evaluator scoring the end of each rollout.
+     * @param rolloutLength the number of bricks placed per rollout.
+     * @param pool          the pool running the rollouts, or null to run them
+     *                      on the calling thread.
+     */
+    public MonteCarloPlanner(BoardEvaluator evaluator, int rolloutLength, ForkJoinPool pool) {
+        this.evaluator = evaluator;
+        this.rolloutLength = rolloutLength;
+        this.pool = pool;
+    }
+
+    /**
+     * Scores every placement of the root's active brick by rollouts until the
+     * deadline, running at least one round.
+     *
+     * @param root     the state to search from.
+     * @param deadline the {@link System#nanoTime()} by which to stop.
+     * @return the placement with the best mean rollout score, or null if the
+     *         brick has no placement.
+     */
+    @Override
+    public Plan search(SearchRoot root, long deadline) {
+        SearchBoard rootBoard = root.createBoard();
+        Placements placements = new PlacementEnumerator().enumerate(rootBoard.getRows(), root.getPieceId(),
+                root.getRotation(), root.getX(), root.getY());
+        int count = placements.size();
+        if (count == 0) {
+            return null;
+        }
+        SearchBoard[] candidates = new SearchBoard[count];
+        int[] lines = new int[count];
+        for (int i = 0; i < count; i++) {
+            candidates[i] = rootBoard.copy();
+            lines[i] = candidates[i].place(ShapeTable.getShape(root.getPieceId(), placements.getRotation(i)),
+                    placements.getX(i), placements.getY(i));
+        }
+
+        double[] totals = new double[count];
+        int rollouts = 0;
+        do {
+            if (pool == null) {
+                for (int i = 0; i < count; i++) {
+                    totals[i] += rollouts(root, candidates[i], lines[i]);
+                }
+            } else {
+                pool.submit(() -> IntStream.range(0, count).parallel()
+                        .forEach(i -> totals[i] += rollouts(root, candidates[i], lines[i]))).join();
+            }
+            rollouts += ROLLOUTS_PER_TASK;
+        } while (System.nanoTime() < deadline);
+
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (totals[i] > totals[best]) {
+                best = i;
+            }
+        }
+        return new Plan(false, placements.getX(best), placements.getY(best), placements.getRotation(best),
+                totals[best] / rollouts, rolloutLength);
+    }
+
+    /**
+     * Runs a batch of rollouts from one candidate board.
+     *
+     * @param root      the state the search started from.
+     * @param candidate the board after the candidate placement.
+     * @param lines     the rows the candidate placement cleared.
+     * @return the sum of the rollout scores.
+     */
+    private double rollouts(SearchRoot root, SearchBoard candidate, int lines) {
+        Worker worker = workers.get();
+        double total = 0;
+        for (int i = 0; i < ROLLOUTS_PER_TASK; i++) {
+            total += worker.rollout(root, candidate, lines);
+        }
+        return total;
+    }
+
+    /**
+     * Per-thread rollout state, reused across rollouts so they do not
+     * allocate.
+     */
+    private final class Worker {
+
+        private final SplittableRandom random = new SplittableRandom();
+        private final SeededBrickGenerator generator = new SeededBrickGenerator(0);
+        private final PlacementEnumerator enumerator = new PlacementEnumerator();
+        private SearchBoard board;
+        private SearchBoard trial;
+
+        /**
+         * Plays one rollout and evaluates its end. Each brick goes to the
+         * best of a few random placements, which keeps rollouts random but
+         * not so careless that every line of play tops out.
+         *
+         * @param root      the state the search started from.
+         * @param candidate the board to start from.
+         * @param lines     the rows cleared before the rollout.
+         * @return the rollout score.
+         */
+        private double rollout(SearchRoot root, SearchBoard candidate, int lines) {
+            if (board == null || board.getHeight() != candidate.getHeight()) {
+                board = candidate.copy();
+                trial = candidate.copy();
+            } else {
+                board.copyFrom(candidate);
+            }
+            GeneratorState state = root.getGeneratorState();
+            if (state != null) {
+                generator.restoreState(state.withSeed(random.nextLong()));
+            } else {
+                generator.reset(random.nextLong());
+            }
+
+            int total = lines;
+            for (int step = 0; step < rolloutLength; step++) {
+                int pieceId = generator.getBrick().getShapes().get(0).getPieceId();
+                int x = (Constants.BOARD_WIDTH - ShapeTable.getShape(pieceId, 0).getSize()) / 2;
+                Placements placements = enumerator.enumerate(board.getRows(), pieceId, 0, x, Constants.START_Y);
+                if (placements.size() == 0) {
+                    return TOP_OUT_SCORE;
+                }
+                int choice = -1;
+                double bestScore = Double.NEGATIVE_INFINITY;
+                for (int sample = 0; sample < TOURNAMENT_SIZE; sample++) {
+                    int i = random.nextInt(placements.size());
+                    trial.copyFrom(board);
+                    int cleared = trial.place(ShapeTable.getShape(pieceId, placements.getRotation(i)),
+                            placements.getX(i), placements.getY(i));
+                    double score = evaluator.evaluate(trial, total + cleared);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        choice = i;
+                    }
+                }
+                total += board.place(ShapeTable.getShape(pieceId, placements.getRotation(choice)),
+                        placements.getX(choice), placements.getY(choice));
+            }
+            return evaluator.evaluate(board, total);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.comp2042.ai;
+
+import com.comp2042.Board;
+import com.comp2042.BoardSnapshot;
+import com.comp2042.Constants;
+import com.comp2042.EventType;
+import com.comp2042.RowMasks;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds every distinct position where the active brick can lock, together
+ * with the shortest input path to it.
+ * Runs a breadth-first search over (x, rotation, y) using the same moves as
+ * the game: left, right, rotate without kicks, and soft drop, so slides and
+ * tucks under overhangs are found. From every reached state a hard drop leads
+ * to its landing position. Placements that cover the same cells, such as
+ * those of symmetric rotations, are reported once.
+ * All working arrays are allocated once and reset with a generation stamp, so
+ * a search over row masks allocates nothing; only
+ * {@link #enumerate(Board)} allocates, for the snapshot it reads the active
+ * brick from. Instances are not thread-safe.
+ */
+public class PlacementEnumerator {
+
+    /**
+     * Shapes are 4x4, so a brick's position can be up to 3 cells left of or
+     * above the board.
+     */
+    private static final int OFFSET = 3;
+    private static final int MAX_ROTATIONS = 4;
+    private static final int MAX_SHAPE_ROWS = 4;
+
+    /**
+     * Larger than the number of states, so the key set never fills up.
+     */
+    private static final int KEY_CAPACITY = 2048;
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    private final int width = Constants.BOARD_WIDTH;
+    private final int height = Constants.BOARD_HEIGHT;
+    private final int columns = width + OFFSET;
+    private final int rowsPerColumn = height + OFFSET;
+
+    private final int[] visited;
+    private final int[] parents;
+    private final byte[] moves;
+    private final int[] depths;
+    private final int[] queue;
+    private final int[] landed;
+    private final int[] landingStamps;
+    private final int[] landingYs;
+    private final long[] keys = new long[KEY_CAPACITY];
+    private final int[] keyStamps = new int[KEY_CAPACITY];
+    private final int[] boardRows = new int[height];
+    private final Placements placements = new Placements();
+    private int stamp;
+
+    /**
+     * Creates an enumerator for the standard board size.
+     */
+    public PlacementEnumerator() {
+        int states = MAX_ROTATIONS * columns * rowsPerColumn;
+        visited = new int[states];
+        parents = new int[states];
+        moves = new byte[states];
+        depths = new int[states];
+        queue = new int[states];
+        landed = new int[states];
+        landingStamps = new int[states];
+        landingYs = new int[states];
+    }
+
+    /**
+     * Enumerates the placements of a board's active brick. Unlike the row
+     * mask overload, this allocates a {@link BoardSnapshot} of the board.
+     *
+     * @param board the board.
+     * @return the placements, in a buffer reused by the next call.
+     */
+    public Placements enumerate(Board board) {
+        int[][] matrix = board.getBoardMatrix();
+        for (int y = 0; y < height; y++) {
+            int mask = 0;
+            for (int x = 0; x < width; x++) {
+                if (matrix[y][x] != 0) {
+                    mask |= 1 << x;
+                }
+            }
+            boardRows[y] = mask;
+        }
+        BoardSnapshot snapshot = board.snapshot();
+        return enumerate(boardRows, snapshot.getPieceId(), snapshot.getRotation(), snapshot.getX(),
+                snapshot.getY());
+    }
+
+    /**
+     * Enumerates the placements of a brick on a board given as row masks.
+     *
+     * @param rows     the board row masks, see {@link RowMasks}.
+     * @param pieceId  the id of the brick.
+     * @param rotation the current rotation index of the brick.
+     * @param x        the current x-coordinate of the brick.
+     * @param y        the current y-coordinate of the brick.
+     * @return the placements, in a buffer reused by the next call; empty if the
+     *         brick already collides.
+     */
+    public Placements enumerate(int[] rows, int pieceId, int rotation, int x, int y) {
+        nextStamp();
+        placements.clear(pieceId);
+        List<PieceShape> shapes = ShapeTable.getRotations(pieceId);
+        if (RowMasks.intersects(rows, shapes.get(rotation), x, y)) {
+            return placements;
+        }
+
+        int head = 0;
+        int tail = 0;
+        int start = index(rotation, x, y);
+        visited[start] = stamp;
+        parents[start] = -1;
+        depths[start] = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int state = queue[head++];
+            int rot = state / (columns * rowsPerColumn);
+            int sx = (state / rowsPerColumn) % columns - OFFSET;
+            int sy = state % rowsPerColumn - OFFSET;
+            PieceShape shape = shapes.get(rot);
+
+            int landingY = landingY(rows, shape, rot, sx, sy);
+            int landing = index(rot, sx, landingY);
+            if (landed[landing] != stamp) {
+                landed[landing] = stamp;
+                addPlacement(shape, state, sx, landingY, rot);
+            }
+
+            tail = visit(rows, shape, rot, sx - 1, sy, state, EventType.LEFT, tail);
+            tail = visit(rows, shape, rot, sx + 1, sy, state, EventType.RIGHT, tail);
+            int next = (rot + 1) % shapes.size();
+            tail = visit(rows, shapes.get(next), next, sx, sy, state, EventType.ROTATE, tail);
+            tail = visit(rows, shape, rot, sx, sy + 1, state, EventType.DOWN, tail);
+        }
+        return placements;
+    }
+
+    /**
+     * Starts a new search generation, clearing all stamps when the counter
+     * would overflow.
+     */
+    private void nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            Arrays.fill(landed, 0);
+            Arrays.fill(landingStamps, 0);
+            Arrays.fill(keyStamps, 0);
+            stamp = 1;
+        }
+    }
+
+    /**
+     * Gets the state index of a brick position.
+     *
+     * @param rotation the rotation index.
+     * @param x        the x-coordinate.
+     * @param y        the y-coordinate.
+     * @return the state index.
+     */
+    private int index(int rotation, int x, int y) {
+        return (rotation * columns + x + OFFSET) * rowsPerColumn + y + OFFSET;
+    }
+
+    /**
+     * Queues a neighboring state if it is free and not yet visited.
+     *
+     * @param rows     the board row masks.
+     * @param shape    the shape in the new state.
+     * @param rotation the rotation index in the new state.
+     * @param x        the x-coordinate in the new state.
+     * @param y        the y-coordinate in the new state.
+     * @param parent   the state the move starts from.
+     * @param move     the input leading to the new state.
+     * @param tail     the current end of the queue.
+     * @return the new end of the queue.
+     */
+    private int visit(int[] rows, PieceShape shape, int rotation, int x, int y, int parent, EventType move,
+            int tail) {
+        if (RowMasks.intersects(rows, shape, x, y)) {
+            return tail;
+        }
+        int state = index(rotation, x, y);
+        if (visited[state] == stamp) {
+            return tail;
+        }
+        visited[state] = stamp;
+        parents[state] = parent;
+        moves[state] = (byte) move.ordinal();
+        depths[state] = depths[parent] + 1;
+        queue[tail] = state;
+        return tail + 1;
+    }
+
+    /**
+     * Finds where a brick lands when hard dropped, remembering the result for
+     * every position passed on the way down.
+     *
+     * @param rows     the board row masks.
+     * @param shape    the brick shape.
+     * @param rotation the rotation index.
+     * @param x        the x-coordinate.
+     * @param y        the y-coordinate to drop from.
+     * @return the landing y-coordinate.
+     */
+    private int landingY(int[] rows, PieceShape shape, int rotation, int x, int y) {
+        int current = y;
+        int result;
+        while (true) {
+            int state = index(rotation, x, current);
+            if (landingStamps[state] == stamp) {
+                result = landingYs[state];
+                break;
+            }
+            if (RowMasks.intersects(rows, shape, x, current + 1)) {
+                result = current;
+                break;
+            }
+            current++;
+        }
+        for (int row = y; row <= current; row++) {
+            int state = index(rotation, x, row);
+            landingStamps[state] = stamp;
+            landingYs[state] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Records a placement unless one covering the same cells was found, and
+     * writes its input path.
+     *
+     * @param shape    the brick shape.
+     * @param from     the state the hard drop starts from.
+     * @param x        the x-coordinate of the placement.
+     * @param y        the landing y-coordinate.
+     * @param rotation the rotation index.
+     */
+    private void addPlacement(PieceShape shape, int from, int x, int y, int rotation) {
+        if (!addKey(cellKey(shape, x, y))) {
+            return;
+        }
+        int depth = depths[from];
+        int index = placements.add(x, y, rotation, depth + 1);
+        placements.setPathStep(index, depth, EventType.DROP);
+        for (int state = from, step = depth - 1; step >= 0; state = parents[state], step--) {
+            placements.setPathStep(index, step, EVENT_TYPES[moves[state]]);
+        }
+    }
+
+    /**
+     * Packs the board cells covered by a placed brick into a key: the top row,
+     * then one board-width mask for each of the 4 rows from there, which fits
+     * a long for the 10 column board.
+     *
+     * @param shape the brick shape.
+     * @param x     the x-coordinate of the brick.
+     * @param y     the y-coordinate of the brick.
+     * @return the cell key.
+     */
+    private long cellKey(PieceShape shape, int x, int y) {
+        long key = y + shape.getMinRow();
+        for (int r = shape.getMinRow(); r < shape.getMinRow() + MAX_SHAPE_ROWS; r++) {
+            int mask = r <= shape.getMaxRow() ? RowMasks.shift(shape.getRowMask(r), x) : 0;
+            key = (key << width) | mask;
+        }
+        return key;
+    }
+
+    /**
+     * Adds a cell key to the set of placements found in this search.
+     *
+     * @param key the cell key.
+     * @return true if the key was new.
+     */
+    private boolean addKey(long key) {
+        int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - Integer.numberOfTrailingZeros(KEY_CAPACITY)));
+        while (keyStamps[slot] == stamp) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & (KEY_CAPACITY - 1);
+        }
+        keyStamps[slot] = stamp;
+        keys[slot] = key;
+        return true;
+    }
+}
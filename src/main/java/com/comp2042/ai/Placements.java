@@ -0,0 +1,186 @@
+package com.comp2042.ai;
+
+import com.comp2042.EventType;
+import com.comp2042.RowMasks;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer of the placements found by a {@link PlacementEnumerator}.
+ * Placements are stored in parallel primitive arrays and their input paths in
+ * a shared pool, so refilling the buffer does not allocate once it has grown
+ * to the needed size.
+ */
+public final class Placements {
+
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    private int pieceId;
+    private int count;
+    private int[] xs = new int[64];
+    private int[] ys = new int[64];
+    private int[] rotations = new int[64];
+    private int[] pathStarts = new int[64];
+    private int[] pathLengths = new int[64];
+    private byte[] paths = new byte[1024];
+    private int pathSize;
+
+    /**
+     * Removes all placements.
+     *
+     * @param pieceId the id of the brick the next placements are for.
+     */
+    void clear(int pieceId) {
+        this.pieceId = pieceId;
+        count = 0;
+        pathSize = 0;
+    }
+
+    /**
+     * Adds a placement and reserves room for its path.
+     *
+     * @param x          the x-coordinate of the locked brick.
+     * @param y          the y-coordinate of the locked brick.
+     * @param rotation   the rotation index of the locked brick.
+     * @param pathLength the number of inputs to reach the placement.
+     * @return the index of the placement.
+     */
+    int add(int x, int y, int rotation, int pathLength) {
+        if (count == xs.length) {
+            int capacity = count * 2;
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            rotations = Arrays.copyOf(rotations, capacity);
+            pathStarts = Arrays.copyOf(pathStarts, capacity);
+            pathLengths = Arrays.copyOf(pathLengths, capacity);
+        }
+        if (pathSize + pathLength > paths.length) {
+            paths = Arrays.copyOf(paths, Math.max(paths.length * 2, pathSize + pathLength));
+        }
+        xs[count] = x;
+        ys[count] = y;
+        rotations[count] = rotation;
+        pathStarts[count] = pathSize;
+        pathLengths[count] = pathLength;
+        pathSize += pathLength;
+        return count++;
+    }
+
+    /**
+     * Sets one input of a placement's path.
+     *
+     * @param index the index of the placement.
+     * @param step  the position in the path.
+     * @param input the input.
+     */
+    void setPathStep(int index, int step, EventType input) {
+        paths[pathStarts[index] + step] = (byte) input.ordinal();
+    }
+
+    /**
+     * Gets the number of placements.
+     *
+     * @return the placement count.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the x-coordinate of a placement.
+     *
+     * @param index the index of the placement.
+     * @return the x-coordinate of the locked brick.
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Gets the y-coordinate of a placement.
+     *
+     * @param index the index of the placement.
+     * @return the y-coordinate of the locked brick.
+     */
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Gets the rotation index of a placement.
+     *
+     * @param index the index of the placement.
+     * @return the rotation index of the locked brick.
+     */
+    public int getRotation(int index) {
+        return rotations[index];
+    }
+
+    /**
+     * Gets the number of inputs of the shortest path to a placement, including
+     * the final {@link EventType#DROP}.
+     *
+     * @param index the index of the placement.
+     * @return the path length.
+     */
+    public int getPathLength(int index) {
+        return pathLengths[index];
+    }
+
+    /**
+     * Gets one input of the shortest path to a placement.
+     *
+     * @param index the index of the placement.
+     * @param step  the position in the path.
+     * @return the input.
+     */
+    public EventType getPathStep(int index, int step) {
+        return EVENT_TYPES[paths[pathStarts[index] + step]];
+    }
+
+    /**
+     * Finds the placement covering the same cells as a brick position, which
+     * may be reached in a different but symmetric rotation.
+     *
+     * @param rotation the rotation index of the brick.
+     * @param x        the x-coordinate of the brick.
+     * @param y        the y-coordinate of the brick.
+     * @return the index of the placement, or -1 if it is not reachable.
+     */
+    public int find(int rotation, int x, int y) {
+        PieceShape target = ShapeTable.getShape(pieceId, rotation);
+        for (int i = 0; i < count; i++) {
+            if (sameCells(ShapeTable.getShape(pieceId, rotations[i]), xs[i], ys[i], target, x, y)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if two placed shapes cover the same board cells.
+     *
+     * @param a  the first shape.
+     * @param ax the x-coordinate of the first shape.
+     * @param ay the y-coordinate of the first shape.
+     * @param b  the second shape.
+     * @param bx the x-coordinate of the second shape.
+     * @param by the y-coordinate of the second shape.
+     * @return true if the covered cells are identical.
+     */
+    private static boolean sameCells(PieceShape a, int ax, int ay, PieceShape b, int bx, int by) {
+        int rowsA = a.getMaxRow() - a.getMinRow();
+        if (ay + a.getMinRow() != by + b.getMinRow() || rowsA != b.getMaxRow() - b.getMinRow()) {
+            return false;
+        }
+        for (int r = 0; r <= rowsA; r++) {
+            if (RowMasks.shift(a.getRowMask(a.getMinRow() + r), ax)
+                    != RowMasks.shift(b.getRowMask(b.getMinRow() + r), bx)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
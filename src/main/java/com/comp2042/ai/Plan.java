@@ -0,0 +1,89 @@
+package com.comp2042.ai;
+
+/**
+ * The move chosen by a search for the active brick: whether to hold first,
+ * and where the brick that is then active should lock.
+ */
+public final class Plan {
+
+    private final boolean hold;
+    private final int x;
+    private final int y;
+    private final int rotation;
+    private final double score;
+    private final int depth;
+
+    /**
+     * Constructs a new Plan.
+     *
+     * @param hold     whether to hold the active brick first.
+     * @param x        the x-coordinate to lock the brick at.
+     * @param y        the y-coordinate to lock the brick at.
+     * @param rotation the rotation index to lock the brick in.
+     * @param score    the evaluation of the best line of play.
+     * @param depth    the number of bricks the search looked ahead.
+     */
+    public Plan(boolean hold, int x, int y, int rotation, double score, int depth) {
+        this.hold = hold;
+        this.x = x;
+        this.y = y;
+        this.rotation = rotation;
+        this.score = score;
+        this.depth = depth;
+    }
+
+    /**
+     * Checks if the active brick should be held first.
+     *
+     * @return true to hold before moving.
+     */
+    public boolean isHold() {
+        return hold;
+    }
+
+    /**
+     * Gets the x-coordinate to lock the brick at.
+     *
+     * @return the target x position.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y-coordinate to lock the brick at.
+     *
+     * @return the target y position.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the rotation index to lock the brick in.
+     *
+     * @return the target rotation.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the evaluation of the best line of play found.
+     *
+     * @return the score.
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of bricks the search looked ahead before it finished or
+     * ran out of time.
+     *
+     * @return the search depth.
+     */
+    public int getDepth() {
+        return depth;
+    }
+}
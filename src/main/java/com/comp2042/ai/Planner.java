@@ -0,0 +1,18 @@
+package com.comp2042.ai;
+
+/**
+ * Chooses the move for the active brick of a captured game state.
+ * Planners are called from a background thread and may use other threads
+ * internally, but must return by the deadline.
+ */
+public interface Planner {
+
+    /**
+     * Searches for the best move of the root's active brick.
+     *
+     * @param root     the state to search from.
+     * @param deadline the {@link System#nanoTime()} by which to stop.
+     * @return the best plan found, or null if the brick has no placement.
+     */
+    Plan search(SearchRoot root, long deadline);
+}
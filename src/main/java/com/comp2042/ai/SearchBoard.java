@@ -0,0 +1,419 @@
+package com.comp2042.ai;
+
+import com.comp2042.Constants;
+import com.comp2042.RowMasks;
+import com.comp2042.logic.bricks.PieceShape;
+
+import java.util.Arrays;
+
+/**
+ * Lightweight board for search: only the settled cells, as one row mask per
+ * row (see {@link RowMasks}).
+ * Placing a brick and clearing rows work directly on the masks, so a search
+ * can branch into many child boards cheaply.
+ * The board also keeps the features used by {@link HeuristicEvaluator} up to
+ * date as bricks lock and rows clear, touching only the rows and columns a
+ * brick covers, so scoring a board never rescans its cells:
+ * <ul>
+ * <li>column heights, their sum and the bumpiness between neighbours;</li>
+ * <li>holes, as the aggregate height minus the number of filled cells;</li>
+ * <li>row transitions, with the walls counted as filled;</li>
+ * <li>column transitions, with the floor counted as filled;</li>
+ * <li>well cells, which are empty with both horizontal neighbours filled.</li>
+ * </ul>
+ * A {@link Zobrist} hash of the cells is kept the same way, so equal boards
+ * reached through different placement orders can be recognized.
+ */
+public final class SearchBoard {
+
+    private static final int WIDTH = Constants.BOARD_WIDTH;
+    private static final int RIGHT_WALL = 1 << (WIDTH - 1);
+    private static final int PADDED_MASK = (1 << (WIDTH + 1)) - 1;
+
+    private final int[] rows;
+    private final int[] heights = new int[WIDTH];
+    private int aggregateHeight;
+    private int bumpiness;
+    private int cellCount;
+    private int rowTransitions;
+    private int columnTransitions;
+    private int wells;
+    private long hash;
+
+    /**
+     * Creates a board from row masks.
+     *
+     * @param rows the row masks to copy.
+     */
+    public SearchBoard(int[] rows) {
+        this.rows = rows.clone();
+        recomputeFeatures();
+    }
+
+    /**
+     * Creates a copy of another board.
+     *
+     * @param other the board to copy.
+     */
+    private SearchBoard(SearchBoard other) {
+        this.rows = new int[other.rows.length];
+        copyFrom(other);
+    }
+
+    /**
+     * Creates a board from a board matrix.
+     *
+     * @param matrix the board matrix, indexed as {@code matrix[y][x]}.
+     * @return the search board.
+     */
+    public static SearchBoard fromMatrix(int[][] matrix) {
+        int[] rows = new int[matrix.length];
+        for (int y = 0; y < matrix.length; y++) {
+            for (int x = 0; x < matrix[y].length; x++) {
+                if (matrix[y][x] != 0) {
+                    rows[y] |= 1 << x;
+                }
+            }
+        }
+        return new SearchBoard(rows);
+    }
+
+    /**
+     * Creates an independent copy of this board.
+     *
+     * @return the copy.
+     */
+    public SearchBoard copy() {
+        return new SearchBoard(this);
+    }
+
+    /**
+     * Overwrites this board with the cells and features of another board of
+     * the same height, without allocating.
+     *
+     * @param other the board to copy.
+     */
+    public void copyFrom(SearchBoard other) {
+        System.arraycopy(other.rows, 0, rows, 0, rows.length);
+        System.arraycopy(other.heights, 0, heights, 0, WIDTH);
+        aggregateHeight = other.aggregateHeight;
+        bumpiness = other.bumpiness;
+        cellCount = other.cellCount;
+        rowTransitions = other.rowTransitions;
+        columnTransitions = other.columnTransitions;
+        wells = other.wells;
+        hash = other.hash;
+    }
+
+    /**
+     * Places a brick and clears the rows it completes.
+     *
+     * @param shape the brick shape.
+     * @param x     the x-coordinate of the brick.
+     * @param y     the y-coordinate of the brick.
+     * @return the number of rows cleared.
+     */
+    public int place(PieceShape shape, int x, int y) {
+        int full = lock(shape, x, y);
+        if (full > 0) {
+            clearRows(full);
+        }
+        return full;
+    }
+
+    /**
+     * Locks a brick into the rows and updates the features of the rows and
+     * columns it covers.
+     *
+     * @param shape the brick shape.
+     * @param x     the x-coordinate of the brick.
+     * @param y     the y-coordinate of the brick.
+     * @return the number of rows the brick completed.
+     */
+    private int lock(PieceShape shape, int x, int y) {
+        int top = y + shape.getMinRow();
+        int bottom = y + shape.getMaxRow();
+        columnTransitions -= columnTransitions(top - 1, bottom);
+
+        int full = 0;
+        for (int row = top; row <= bottom; row++) {
+            int before = rows[row];
+            int after = before | RowMasks.shift(shape.getRowMask(row - y), x);
+            rowTransitions += rowTransitions(after) - rowTransitions(before);
+            wells += wells(after) - wells(before);
+            hash ^= Zobrist.row(row, after & ~before);
+            rows[row] = after;
+            if (after == RowMasks.FULL_ROW) {
+                full++;
+            }
+        }
+        columnTransitions += columnTransitions(top - 1, bottom);
+        cellCount += shape.getCellCount();
+
+        int left = x + shape.getMinCol();
+        int right = x + shape.getMaxCol();
+        bumpiness -= bumpiness(left, right);
+        for (int col = left; col <= right; col++) {
+            int height = rows.length - (y + shape.getColumnTop(col - x));
+            if (shape.getColumnTop(col - x) >= 0 && height > heights[col]) {
+                aggregateHeight += height - heights[col];
+                heights[col] = height;
+            }
+        }
+        bumpiness += bumpiness(left, right);
+        return full;
+    }
+
+    /**
+     * Removes the full rows and shifts the rows above them down.
+     * Full rows have no row transitions or wells, so those sums are
+     * unchanged. Every column loses one cell of height per cleared row, and
+     * more only where the column's top was in a cleared row above a gap, so
+     * heights are only scanned further down in that case. The column
+     * transitions are counted again, and the hash is updated for the
+     * removed and moved rows only.
+     *
+     * @param full the number of full rows.
+     */
+    private void clearRows(int full) {
+        int target = rows.length - 1;
+        for (int i = rows.length - 1; i >= 0; i--) {
+            int row = rows[i];
+            if (row == RowMasks.FULL_ROW) {
+                hash ^= Zobrist.row(i, row);
+            } else {
+                if (target != i && row != 0) {
+                    hash ^= Zobrist.row(i, row) ^ Zobrist.row(target, row);
+                }
+                rows[target--] = row;
+            }
+        }
+        Arrays.fill(rows, 0, target + 1, 0);
+        cellCount -= full * WIDTH;
+        aggregateHeight = 0;
+        for (int col = 0; col < WIDTH; col++) {
+            int bit = 1 << col;
+            int height = heights[col] - full;
+            while (height > 0 && (rows[rows.length - height] & bit) == 0) {
+                height--;
+            }
+            heights[col] = height;
+            aggregateHeight += height;
+        }
+        bumpiness = bumpiness(0, WIDTH - 1);
+        columnTransitions = columnTransitions(-1, rows.length - 1);
+    }
+
+    /**
+     * Computes every feature from the rows.
+     */
+    private void recomputeFeatures() {
+        Arrays.fill(heights, 0);
+        aggregateHeight = 0;
+        cellCount = 0;
+        rowTransitions = 0;
+        wells = 0;
+        hash = 0;
+        for (int y = rows.length - 1; y >= 0; y--) {
+            int row = rows[y];
+            hash ^= Zobrist.row(y, row);
+            cellCount += Integer.bitCount(row);
+            rowTransitions += rowTransitions(row);
+            wells += wells(row);
+            for (int bits = row; bits != 0; bits &= bits - 1) {
+                heights[Integer.numberOfTrailingZeros(bits)] = rows.length - y;
+            }
+        }
+        for (int col = 0; col < WIDTH; col++) {
+            aggregateHeight += heights[col];
+        }
+        bumpiness = bumpiness(0, WIDTH - 1);
+        columnTransitions = columnTransitions(-1, rows.length - 1);
+    }
+
+    /**
+     * Counts the changes between filled and empty cells along a row, with the
+     * walls counted as filled. An empty row counts as having none.
+     *
+     * @param row the row mask.
+     * @return the number of transitions.
+     */
+    private static int rowTransitions(int row) {
+        if (row == 0) {
+            return 0;
+        }
+        int padded = (row << 1) | 1 | (1 << (WIDTH + 1));
+        return Integer.bitCount((padded ^ (padded >>> 1)) & PADDED_MASK);
+    }
+
+    /**
+     * Counts the empty cells of a row whose left and right neighbours are
+     * filled, with the walls counted as filled.
+     *
+     * @param row the row mask.
+     * @return the number of well cells.
+     */
+    private static int wells(int row) {
+        return Integer.bitCount(~row & RowMasks.FULL_ROW & ((row << 1) | 1) & ((row >>> 1) | RIGHT_WALL));
+    }
+
+    /**
+     * Counts the column transitions between each row in a range and the row
+     * below it. The space above the board counts as empty and the floor as
+     * filled.
+     *
+     * @param from the first row, or -1 to include the transitions into the
+     *             top row.
+     * @param to   the last row.
+     * @return the number of transitions.
+     */
+    private int columnTransitions(int from, int to) {
+        int count = 0;
+        for (int y = Math.max(from, -1); y <= to; y++) {
+            int upper = y >= 0 ? rows[y] : 0;
+            int lower = y + 1 < rows.length ? rows[y + 1] : RowMasks.FULL_ROW;
+            count += Integer.bitCount(upper ^ lower);
+        }
+        return count;
+    }
+
+    /**
+     * Sums the height differences between neighbouring columns that involve a
+     * column in a range.
+     *
+     * @param left  the first column of the range.
+     * @param right the last column of the range.
+     * @return the partial bumpiness.
+     */
+    private int bumpiness(int left, int right) {
+        int sum = 0;
+        for (int col = Math.max(left - 1, 0); col < Math.min(right + 1, WIDTH - 1); col++) {
+            sum += Math.abs(heights[col] - heights[col + 1]);
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the mask of a row.
+     *
+     * @param y the row.
+     * @return the row mask.
+     */
+    public int getRow(int y) {
+        return rows[y];
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the board height.
+     */
+    public int getHeight() {
+        return rows.length;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the board width.
+     */
+    public int getWidth() {
+        return WIDTH;
+    }
+
+    /**
+     * Gets the height of a column, counted from the floor to its highest
+     * filled cell.
+     *
+     * @param x the column.
+     * @return the column height.
+     */
+    public int getColumnHeight(int x) {
+        return heights[x];
+    }
+
+    /**
+     * Gets the sum of all column heights.
+     *
+     * @return the aggregate height.
+     */
+    public int getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    /**
+     * Gets the sum of the height differences between neighbouring columns.
+     *
+     * @return the bumpiness.
+     */
+    public int getBumpiness() {
+        return bumpiness;
+    }
+
+    /**
+     * Gets the number of empty cells below the top of their column.
+     *
+     * @return the hole count.
+     */
+    public int getHoles() {
+        return aggregateHeight - cellCount;
+    }
+
+    /**
+     * Gets the number of filled cells.
+     *
+     * @return the cell count.
+     */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Gets the number of changes between filled and empty cells along the
+     * non-empty rows, with the walls counted as filled.
+     *
+     * @return the row transitions.
+     */
+    public int getRowTransitions() {
+        return rowTransitions;
+    }
+
+    /**
+     * Gets the number of changes between filled and empty cells down the
+     * columns, with the floor counted as filled.
+     *
+     * @return the column transitions.
+     */
+    public int getColumnTransitions() {
+        return columnTransitions;
+    }
+
+    /**
+     * Gets the number of empty cells whose left and right neighbours are
+     * filled.
+     *
+     * @return the well cell count.
+     */
+    public int getWells() {
+        return wells;
+    }
+
+    /**
+     * Gets the Zobrist hash of the filled cells.
+     *
+     * @return the board hash.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Gets the row masks for the placement enumerator. The array must not be
+     * modified.
+     *
+     * @return the row masks.
+     */
+    int[] getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,178 @@
+package com.comp2042.ai;
+
+import com.comp2042.Board;
+import com.comp2042.BoardSnapshot;
+import com.comp2042.logic.bricks.GeneratorState;
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * Immutable starting point of a search, captured from a live {@link Board}
+ * so the search can run on other threads: the settled cells, the active
+ * brick, the hold slot and the preview queue.
+ */
+public final class SearchRoot {
+
+    private final int[] rows;
+    private final int pieceId;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final int heldPieceId;
+    private final boolean canHold;
+    private final int[] queue;
+    private final long queuePosition;
+    private final GeneratorState generatorState;
+
+    /**
+     * Constructs a new SearchRoot.
+     *
+     * @param rows           the board row masks.
+     * @param pieceId        the id of the active brick.
+     * @param rotation       the rotation index of the active brick.
+     * @param x              the x-coordinate of the active brick.
+     * @param y              the y-coordinate of the active brick.
+     * @param heldPieceId    the id of the held brick, or 0 if none is held.
+     * @param canHold        whether the active brick may still be held.
+     * @param queue          the ids of the upcoming bricks, next brick first.
+     * @param queuePosition  the position of the next brick in the game's brick
+     *                       sequence.
+     * @param generatorState the state of the game's brick generator, or null
+     *                       if the bricks after the queue are unknown.
+     */
+    public SearchRoot(int[] rows, int pieceId, int rotation, int x, int y, int heldPieceId, boolean canHold,
+            int[] queue, long queuePosition, GeneratorState generatorState) {
+        this.rows = rows.clone();
+        this.pieceId = pieceId;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.heldPieceId = heldPieceId;
+        this.canHold = canHold;
+        this.queue = queue.clone();
+        this.queuePosition = queuePosition;
+        this.generatorState = generatorState;
+    }
+
+    /**
+     * Captures the state of a board, including up to {@code preview} bricks
+     * from its generator's queue.
+     *
+     * @param board   the board.
+     * @param preview the maximum number of upcoming bricks to include.
+     * @return the search root.
+     */
+    public static SearchRoot of(Board board, int preview) {
+        BoardSnapshot snapshot = board.snapshot();
+        GeneratorState generator = snapshot.getGeneratorState();
+        int[] queue = new int[Math.min(preview, generator.getQueueSize())];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = generator.getQueuedPieceId(i);
+        }
+        return new SearchRoot(SearchBoard.fromMatrix(board.getBoardMatrix()).getRows(), snapshot.getPieceId(),
+                snapshot.getRotation(), snapshot.getX(), snapshot.getY(), snapshot.getHeldPieceId(),
+                !snapshot.isHeldThisTurn(), queue,
+                generator.getBagIndex() * ShapeTable.PIECE_COUNT - generator.getQueueSize(), generator);
+    }
+
+    /**
+     * Creates a search board with the root's cells.
+     *
+     * @return a new search board.
+     */
+    SearchBoard createBoard() {
+        return new SearchBoard(rows);
+    }
+
+    /**
+     * Gets the id of the active brick.
+     *
+     * @return the piece id.
+     */
+    public int getPieceId() {
+        return pieceId;
+    }
+
+    /**
+     * Gets the rotation index of the active brick.
+     *
+     * @return the rotation index.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the x-coordinate of the active brick.
+     *
+     * @return the x position.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y-coordinate of the active brick.
+     *
+     * @return the y position.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the id of the held brick.
+     *
+     * @return the piece id, or 0 if no brick is held.
+     */
+    public int getHeldPieceId() {
+        return heldPieceId;
+    }
+
+    /**
+     * Checks if the active brick may still be held.
+     *
+     * @return true if hold is available.
+     */
+    public boolean canHold() {
+        return canHold;
+    }
+
+    /**
+     * Gets the number of known upcoming bricks.
+     *
+     * @return the preview length.
+     */
+    public int getQueueSize() {
+        return queue.length;
+    }
+
+    /**
+     * Gets the position of the next brick in the game's brick sequence, so
+     * states of different searches in the same game can be matched.
+     *
+     * @return the sequence position of the first queued brick.
+     */
+    public long getQueuePosition() {
+        return queuePosition;
+    }
+
+    /**
+     * Gets the state of the game's brick generator, from which continuations
+     * beyond the queue can be sampled.
+     *
+     * @return the generator state, or null if unknown.
+     */
+    public GeneratorState getGeneratorState() {
+        return generatorState;
+    }
+
+    /**
+     * Gets the id of an upcoming brick.
+     *
+     * @param index the position in the queue, 0 being the next brick.
+     * @return the piece id.
+     */
+    public int getQueuedPieceId(int index) {
+        return queue[index];
+    }
+}
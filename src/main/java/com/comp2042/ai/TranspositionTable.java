@@ -0,0 +1,142 @@
+package com.comp2042.ai;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of search evaluations keyed by {@link Zobrist} state keys,
+ * shared by the threads of a search.
+ * Entries live in two-way buckets in flat arrays, so lookups and stores do
+ * not allocate. Buckets are guarded by a fixed set of lock stripes instead
+ * of one lock, so threads working on different buckets rarely contend. Each
+ * entry remembers the generation it was stored in; when a bucket is full,
+ * the entry from the older generation is evicted, and on a tie the second
+ * way is replaced so the first keeps long-lived entries.
+ */
+public class TranspositionTable {
+
+    private static final int WAYS = 2;
+
+    private final long[] keys;
+    private final double[] values;
+    private final int[] generations;
+    private final Object[] locks;
+    private final int bucketMask;
+    private final int stripeMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile int generation = 1;
+
+    /**
+     * Constructs a new TranspositionTable.
+     *
+     * @param capacity the number of entries, rounded up to a power of two.
+     * @param stripes  the number of lock stripes, rounded up to a power of
+     *                 two.
+     */
+    public TranspositionTable(int capacity, int stripes) {
+        int buckets = Integer.highestOneBit(Math.max(capacity / WAYS - 1, 1)) << 1;
+        int lockCount = Math.min(Integer.highestOneBit(Math.max(stripes - 1, 1)) << 1, buckets);
+        keys = new long[buckets * WAYS];
+        values = new double[buckets * WAYS];
+        generations = new int[buckets * WAYS];
+        locks = new Object[lockCount];
+        for (int i = 0; i < lockCount; i++) {
+            locks[i] = new Object();
+        }
+        bucketMask = buckets - 1;
+        stripeMask = lockCount - 1;
+    }
+
+    /**
+     * Finds the bucket of a key.
+     *
+     * @param key the state key.
+     * @return the bucket index.
+     */
+    private int bucket(long key) {
+        return (int) (key ^ (key >>> 32)) & bucketMask;
+    }
+
+    /**
+     * Looks up a stored evaluation.
+     *
+     * @param key the state key.
+     * @return the stored value, or {@code Double.NaN} if the key is absent.
+     */
+    public double get(long key) {
+        int bucket = bucket(key);
+        int slot = bucket * WAYS;
+        synchronized (locks[bucket & stripeMask]) {
+            for (int way = 0; way < WAYS; way++) {
+                if (generations[slot + way] != 0 && keys[slot + way] == key) {
+                    hits.increment();
+                    return values[slot + way];
+                }
+            }
+        }
+        misses.increment();
+        return Double.NaN;
+    }
+
+    /**
+     * Stores an evaluation, evicting the older entry of a full bucket.
+     *
+     * @param key   the state key.
+     * @param value the value to store.
+     */
+    public void put(long key, double value) {
+        int bucket = bucket(key);
+        int slot = bucket * WAYS;
+        int current = generation;
+        synchronized (locks[bucket & stripeMask]) {
+            int target = -1;
+            for (int way = 0; way < WAYS; way++) {
+                if (generations[slot + way] == 0 || keys[slot + way] == key) {
+                    target = slot + way;
+                    break;
+                }
+            }
+            if (target < 0) {
+                target = generations[slot] < generations[slot + 1] ? slot : slot + 1;
+            }
+            keys[target] = key;
+            values[target] = value;
+            generations[target] = current;
+        }
+    }
+
+    /**
+     * Starts a new generation, making the entries stored so far the first
+     * to be evicted. Called once per search.
+     */
+    public void nextGeneration() {
+        generation++;
+    }
+
+    /**
+     * Gets the number of entries the table can hold.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    /**
+     * Gets the number of lookups that found an entry.
+     *
+     * @return the hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that found no entry.
+     *
+     * @return the miss count.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+}
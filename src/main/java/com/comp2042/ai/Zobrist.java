@@ -0,0 +1,88 @@
+package com.comp2042.ai;
+
+import com.comp2042.Constants;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys for hashing search states.
+ * Every board cell has a random 64-bit key and a board's hash is the XOR of
+ * the keys of its filled cells, so filling or emptying a cell, or moving a
+ * row, updates the hash with a few XORs. State keys add the active brick,
+ * the held brick, the position in the brick sequence and the lines cleared.
+ * The keys come from a fixed seed, so hashes are stable across runs.
+ */
+public final class Zobrist {
+
+    private static final int WIDTH = Constants.BOARD_WIDTH;
+    private static final int MAX_LINES = 64;
+
+    private static final long[] CELL_KEYS = new long[Constants.BOARD_HEIGHT * WIDTH];
+    private static final long[] PIECE_KEYS = new long[ShapeTable.PIECE_COUNT + 1];
+    private static final long[] HOLD_KEYS = new long[ShapeTable.PIECE_COUNT + 1];
+    private static final long[] LINES_KEYS = new long[MAX_LINES];
+    private static final long POSITION_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x2042_2042_2042L);
+        fill(CELL_KEYS, random);
+        fill(PIECE_KEYS, random);
+        fill(HOLD_KEYS, random);
+        fill(LINES_KEYS, random);
+        POSITION_KEY = random.nextLong() | 1;
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Zobrist() {
+
+    }
+
+    /**
+     * Fills an array with random keys.
+     *
+     * @param keys   the array to fill.
+     * @param random the source of the keys.
+     */
+    private static void fill(long[] keys, SplittableRandom random) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Computes the hash contribution of the filled cells of one row.
+     *
+     * @param y    the row.
+     * @param mask the cells of the row to include.
+     * @return the XOR of the cells' keys.
+     */
+    public static long row(int y, int mask) {
+        long hash = 0;
+        int base = y * WIDTH;
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            hash ^= CELL_KEYS[base + Integer.numberOfTrailingZeros(bits)];
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the key of a search state.
+     *
+     * @param boardHash   the hash of the board cells.
+     * @param pieceId     the id of the brick to place next, or 0 if unknown.
+     * @param heldPieceId the id of the held brick, or 0 if none is held.
+     * @param position    the position of the next brick in the game's brick
+     *                    sequence.
+     * @param lines       the rows cleared since the search started.
+     * @return the state key.
+     */
+    public static long stateKey(long boardHash, int pieceId, int heldPieceId, long position, int lines) {
+        long z = position * POSITION_KEY;
+        z = (z ^ (z >>> 31)) * 0xBF58476D1CE4E5B9L;
+        return boardHash ^ PIECE_KEYS[pieceId] ^ HOLD_KEYS[heldPieceId] ^ LINES_KEYS[lines & (MAX_LINES - 1)]
+                ^ z ^ (z >>> 29);
+    }
+}
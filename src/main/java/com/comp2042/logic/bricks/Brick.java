@@ -1,17 +1,33 @@
 package com.comp2042.logic.bricks;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Interface representing a Tetris brick (tetromino).
- * Provides the matrices for different rotations of the brick.
+ * Provides the shapes for different rotations of the brick.
  */
 public interface Brick {
 
+    /**
+     * Gets the shared, read-only shapes representing rotations.
+     *
+     * @return an unmodifiable List of shapes, one per rotation state.
+     */
+    List<PieceShape> getShapes();
+
     /**
      * Gets the list of shape matrices representing rotations.
+     * Each call returns fresh copies; prefer {@link #getShapes()} on hot paths.
      *
      * @return a List of 2D integer arrays, each representing a rotation state.
      */
-    List<int[][]> getShapeMatrix();
+    default List<int[][]> getShapeMatrix() {
+        List<PieceShape> shapes = getShapes();
+        List<int[][]> matrices = new ArrayList<>(shapes.size());
+        for (PieceShape shape : shapes) {
+            matrices.add(shape.toMatrix());
+        }
+        return matrices;
+    }
 }
@@ -2,7 +2,8 @@ package com.comp2042.logic.bricks;
 
 /**
  * Interface for generating bricks.
- * Supports retrieving the current and next brick.
+ * Supports retrieving the current and next brick, and saving and restoring
+ * the sequence for board snapshots.
  */
 public interface BrickGenerator {
 
@@ -19,4 +20,19 @@ public interface BrickGenerator {
      * @return the next Brick object.
      */
     Brick getNextBrick();
+
+    /**
+     * Saves the state of the generator, so that restoring it later continues
+     * with the same bricks.
+     *
+     * @return the saved state.
+     */
+    GeneratorState saveState();
+
+    /**
+     * Restores a state saved by {@link #saveState()}.
+     *
+     * @param state the state to restore.
+     */
+    void restoreState(GeneratorState state);
 }
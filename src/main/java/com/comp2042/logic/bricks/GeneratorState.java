@@ -0,0 +1,107 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Collection;
+
+/**
+ * Immutable saved state of a {@link BrickGenerator}: the random source
+ * position and the queued bricks.
+ * The queued piece ids are packed 3 bits each into a single long.
+ */
+public final class GeneratorState {
+
+    private static final int BITS_PER_PIECE = 3;
+    private static final int MAX_QUEUE = Long.SIZE / BITS_PER_PIECE;
+
+    private final long seed;
+    private final long bagIndex;
+    private final long queue;
+    private final int queueSize;
+
+    /**
+     * Constructs a new GeneratorState.
+     *
+     * @param seed     the seed of the generator, or 0 if it is not seeded.
+     * @param bagIndex the number of bags shuffled so far.
+     * @param bricks   the queued bricks, next brick first.
+     */
+    GeneratorState(long seed, long bagIndex, Collection<Brick> bricks) {
+        if (bricks.size() > MAX_QUEUE) {
+            throw new IllegalArgumentException("Too many queued bricks: " + bricks.size());
+        }
+        long packed = 0;
+        int shift = 0;
+        for (Brick brick : bricks) {
+            packed |= (long) brick.getShapes().get(0).getPieceId() << shift;
+            shift += BITS_PER_PIECE;
+        }
+        this.seed = seed;
+        this.bagIndex = bagIndex;
+        this.queue = packed;
+        this.queueSize = bricks.size();
+    }
+
+    /**
+     * Constructs a new GeneratorState from already packed bricks.
+     *
+     * @param seed      the seed of the generator.
+     * @param bagIndex  the number of bags shuffled so far.
+     * @param queue     the queued piece ids, packed 3 bits each.
+     * @param queueSize the number of queued bricks.
+     */
+    private GeneratorState(long seed, long bagIndex, long queue, int queueSize) {
+        this.seed = seed;
+        this.bagIndex = bagIndex;
+        this.queue = queue;
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Creates a state with the same queued bricks and bag count but another
+     * seed, so a seeded generator restored from it deals the known bricks
+     * first and then a different continuation, e.g. to sample possible
+     * futures.
+     *
+     * @param newSeed the seed for the bags after the queue.
+     * @return the new state.
+     */
+    public GeneratorState withSeed(long newSeed) {
+        return new GeneratorState(newSeed, bagIndex, queue, queueSize);
+    }
+
+    /**
+     * Gets the seed of the generator.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of bags shuffled so far.
+     *
+     * @return the bag count.
+     */
+    public long getBagIndex() {
+        return bagIndex;
+    }
+
+    /**
+     * Gets the number of queued bricks.
+     *
+     * @return the queue length.
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Gets the piece id of a queued brick.
+     *
+     * @param index the position in the queue, 0 being the next brick.
+     * @return the piece id (1-7).
+     */
+    public int getQueuedPieceId(int index) {
+        return (int) (queue >>> (index * BITS_PER_PIECE)) & ((1 << BITS_PER_PIECE) - 1);
+    }
+}
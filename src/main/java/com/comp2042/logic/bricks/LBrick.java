@@ -1,52 +1,46 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 final class LBrick implements Brick {
 
-        private final List<int[][]> brickMatrix = new ArrayList<>();
-
         /**
-         * Constructs a new LBrick.
-         * Defines the shape matrices for its rotations.
+         * Shape matrices for each rotation, read once by {@link ShapeTable}.
          */
-        public LBrick() {
-                brickMatrix.add(new int[][] {
-                                { 0, 0, 0, 0 },
-                                { 0, 3, 3, 3 },
-                                { 0, 3, 0, 0 },
-                                { 0, 0, 0, 0 }
-                });
-                brickMatrix.add(new int[][] {
-                                { 0, 0, 0, 0 },
-                                { 0, 3, 3, 0 },
-                                { 0, 0, 3, 0 },
-                                { 0, 0, 3, 0 }
-                });
-                brickMatrix.add(new int[][] {
-                                { 0, 0, 0, 0 },
-                                { 0, 0, 3, 0 },
-                                { 3, 3, 3, 0 },
-                                { 0, 0, 0, 0 }
-                });
-                brickMatrix.add(new int[][] {
-                                { 0, 3, 0, 0 },
-                                { 0, 3, 0, 0 },
-                                { 0, 3, 3, 0 },
-                                { 0, 0, 0, 0 }
-                });
-        }
+        static final int[][][] ROTATIONS = {
+                {
+                        { 0, 0, 0, 0 },
+                        { 0, 3, 3, 3 },
+                        { 0, 3, 0, 0 },
+                        { 0, 0, 0, 0 }
+                },
+                {
+                        { 0, 0, 0, 0 },
+                        { 0, 3, 3, 0 },
+                        { 0, 0, 3, 0 },
+                        { 0, 0, 3, 0 }
+                },
+                {
+                        { 0, 0, 0, 0 },
+                        { 0, 0, 3, 0 },
+                        { 3, 3, 3, 0 },
+                        { 0, 0, 0, 0 }
+                },
+                {
+                        { 0, 3, 0, 0 },
+                        { 0, 3, 0, 0 },
+                        { 0, 3, 3, 0 },
+                        { 0, 0, 0, 0 }
+                }
+        };
 
         /**
-         * Gets the shape matrix for this brick.
+         * Gets the shared shapes for this brick.
          *
-         * @return list of rotation matrices.
+         * @return read-only list of rotation shapes.
          */
         @Override
-        public List<int[][]> getShapeMatrix() {
-                return MatrixOperations.deepCopyList(brickMatrix);
+        public List<PieceShape> getShapes() {
+                return ShapeTable.getRotations(ShapeTable.L);
         }
 }
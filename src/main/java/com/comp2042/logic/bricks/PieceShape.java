@@ -0,0 +1,239 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+
+/**
+ * Immutable description of one rotation state of a brick.
+ * Besides the shape matrix it stores the filled cells as packed offsets,
+ * the bounding box of the filled cells and one bitmask per shape row, so
+ * game logic can work on the shape without copying it.
+ */
+public final class PieceShape {
+
+    private final int pieceId;
+    private final int rotation;
+    private final int[][] matrix;
+    private final int[] cells;
+    private final int[] rowMasks;
+    private final int[] columnTops;
+    private final int[] columnBottoms;
+    private final int minRow;
+    private final int maxRow;
+    private final int minCol;
+    private final int maxCol;
+
+    /**
+     * Constructs a new PieceShape from a shape matrix.
+     *
+     * @param pieceId  the id of the brick, which is also its color index.
+     * @param rotation the rotation index of this shape.
+     * @param matrix   the shape matrix, indexed as {@code matrix[row][column]}.
+     */
+    PieceShape(int pieceId, int rotation, int[][] matrix) {
+        this.pieceId = pieceId;
+        this.rotation = rotation;
+        this.matrix = new int[matrix.length][];
+        this.rowMasks = new int[matrix.length];
+        this.columnTops = new int[matrix.length];
+        this.columnBottoms = new int[matrix.length];
+        Arrays.fill(columnTops, -1);
+        Arrays.fill(columnBottoms, -1);
+
+        int count = 0;
+        int top = matrix.length;
+        int bottom = -1;
+        int left = matrix.length;
+        int right = -1;
+        for (int row = 0; row < matrix.length; row++) {
+            this.matrix[row] = matrix[row].clone();
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] != 0) {
+                    rowMasks[row] |= 1 << col;
+                    if (columnTops[col] < 0) {
+                        columnTops[col] = row;
+                    }
+                    columnBottoms[col] = row;
+                    count++;
+                    top = Math.min(top, row);
+                    bottom = Math.max(bottom, row);
+                    left = Math.min(left, col);
+                    right = Math.max(right, col);
+                }
+            }
+        }
+
+        cells = new int[count];
+        int index = 0;
+        for (int row = 0; row < matrix.length; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] != 0) {
+                    cells[index++] = (row << 4) | col;
+                }
+            }
+        }
+        minRow = top;
+        maxRow = bottom;
+        minCol = left;
+        maxCol = right;
+    }
+
+    /**
+     * Gets the id of the brick this shape belongs to.
+     *
+     * @return the piece id (1-7), equal to the brick's color index.
+     */
+    public int getPieceId() {
+        return pieceId;
+    }
+
+    /**
+     * Gets the rotation index of this shape.
+     *
+     * @return the rotation index.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the side length of the square shape matrix.
+     *
+     * @return the size of the shape matrix.
+     */
+    public int getSize() {
+        return matrix.length;
+    }
+
+    /**
+     * Gets the color value of a cell of the shape matrix.
+     *
+     * @param row the row in the shape matrix.
+     * @param col the column in the shape matrix.
+     * @return the color index, or 0 if the cell is empty.
+     */
+    public int getCell(int row, int col) {
+        return matrix[row][col];
+    }
+
+    /**
+     * Gets the number of filled cells.
+     *
+     * @return the filled cell count.
+     */
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * Gets the packed offset of a filled cell, stored as
+     * {@code (row << 4) | column}.
+     *
+     * @param index the index of the filled cell.
+     * @return the packed cell offset.
+     */
+    public int getPackedCell(int index) {
+        return cells[index];
+    }
+
+    /**
+     * Gets the row of a filled cell.
+     *
+     * @param index the index of the filled cell.
+     * @return the row in the shape matrix.
+     */
+    public int getCellRow(int index) {
+        return cells[index] >> 4;
+    }
+
+    /**
+     * Gets the column of a filled cell.
+     *
+     * @param index the index of the filled cell.
+     * @return the column in the shape matrix.
+     */
+    public int getCellCol(int index) {
+        return cells[index] & 0xF;
+    }
+
+    /**
+     * Gets the bitmask of a shape row, with bit {@code c} set when column
+     * {@code c} is filled.
+     *
+     * @param row the row in the shape matrix.
+     * @return the row bitmask.
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Gets the top profile of the shape for one column.
+     *
+     * @param col the column in the shape matrix.
+     * @return the highest filled row in that column, or -1 if the column is
+     *         empty.
+     */
+    public int getColumnTop(int col) {
+        return columnTops[col];
+    }
+
+    /**
+     * Gets the bottom profile of the shape for one column.
+     *
+     * @param col the column in the shape matrix.
+     * @return the lowest filled row in that column, or -1 if the column is
+     *         empty.
+     */
+    public int getColumnBottom(int col) {
+        return columnBottoms[col];
+    }
+
+    /**
+     * Gets the topmost row containing a filled cell.
+     *
+     * @return the first filled row.
+     */
+    public int getMinRow() {
+        return minRow;
+    }
+
+    /**
+     * Gets the bottommost row containing a filled cell.
+     *
+     * @return the last filled row.
+     */
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    /**
+     * Gets the leftmost column containing a filled cell.
+     *
+     * @return the first filled column.
+     */
+    public int getMinCol() {
+        return minCol;
+    }
+
+    /**
+     * Gets the rightmost column containing a filled cell.
+     *
+     * @return the last filled column.
+     */
+    public int getMaxCol() {
+        return maxCol;
+    }
+
+    /**
+     * Creates a copy of the shape matrix for callers that need a mutable array.
+     *
+     * @return a new 2D array with the shape's contents.
+     */
+    public int[][] toMatrix() {
+        int[][] copy = new int[matrix.length][];
+        for (int row = 0; row < matrix.length; row++) {
+            copy[row] = matrix[row].clone();
+        }
+        return copy;
+    }
+}
@@ -40,9 +40,9 @@ public class RandomBrickGenerator implements BrickGenerator {
      */
     private void refillBag() {
         List<Brick> bag = new ArrayList<>(brickList);
-        // Shuffle the bag
-        for (int i = 0; i < bag.size(); i++) {
-            int index = ThreadLocalRandom.current().nextInt(bag.size());
+        // Unbiased Fisher-Yates shuffle
+        for (int i = bag.size() - 1; i > 0; i--) {
+            int index = ThreadLocalRandom.current().nextInt(i + 1);
             Brick temp = bag.get(i);
             bag.set(i, bag.get(index));
             bag.set(index, temp);
@@ -73,4 +73,28 @@ public class RandomBrickGenerator implements BrickGenerator {
     public Brick getNextBrick() {
         return nextBricks.peek();
     }
+
+    /**
+     * Saves the queued bricks. The random source cannot be saved, so bricks
+     * beyond the queue will differ after a restore.
+     *
+     * @return the saved state.
+     */
+    @Override
+    public GeneratorState saveState() {
+        return new GeneratorState(0, 0, nextBricks);
+    }
+
+    /**
+     * Restores the queued bricks.
+     *
+     * @param state the state to restore.
+     */
+    @Override
+    public void restoreState(GeneratorState state) {
+        nextBricks.clear();
+        for (int i = 0; i < state.getQueueSize(); i++) {
+            nextBricks.add(brickList.get(state.getQueuedPieceId(i) - 1));
+        }
+    }
 }
@@ -0,0 +1,140 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic implementation of {@link BrickGenerator} using the same
+ * "bag" rules as {@link RandomBrickGenerator}.
+ * Every bag is shuffled with an unbiased Fisher-Yates shuffle driven by a
+ * {@link SplittableRandom} seeded with {@link #deriveSeed} from the game seed
+ * and the bag number, so the same seed produces the same sequence on any
+ * thread and in any JVM run, and the orders of different bags are unrelated.
+ */
+public class SeededBrickGenerator implements BrickGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final Brick[] bricks = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    private final Deque<Brick> nextBricks = new ArrayDeque<>();
+    private final Brick[] bag = new Brick[bricks.length];
+    private long seed;
+    private long bagIndex;
+
+    /**
+     * Constructs a new SeededBrickGenerator and fills the queue.
+     *
+     * @param seed the seed of the game.
+     */
+    public SeededBrickGenerator(long seed) {
+        reset(seed);
+    }
+
+    /**
+     * Derives the seed of one game from a base seed, e.g. for the games of a
+     * parallel simulation. Neighboring indices give unrelated seeds.
+     *
+     * @param baseSeed  the seed of the whole run.
+     * @param gameIndex the index of the game within the run.
+     * @return the seed for that game.
+     */
+    public static long deriveSeed(long baseSeed, long gameIndex) {
+        long z = baseSeed + (gameIndex + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Restarts the sequence for a new game with the given seed.
+     *
+     * @param seed the seed of the new game.
+     */
+    public void reset(long seed) {
+        this.seed = seed;
+        this.bagIndex = 0;
+        nextBricks.clear();
+        refillBag();
+        refillBag(); // Fill buffer
+    }
+
+    /**
+     * Gets the seed of the current game.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Appends the next shuffled bag of all 7 bricks to the queue.
+     */
+    private void refillBag() {
+        SplittableRandom random = new SplittableRandom(deriveSeed(seed, bagIndex));
+        bagIndex++;
+        System.arraycopy(bricks, 0, bag, 0, bricks.length);
+        for (int i = bag.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Brick temp = bag[i];
+            bag[i] = bag[j];
+            bag[j] = temp;
+        }
+        for (Brick brick : bag) {
+            nextBricks.add(brick);
+        }
+    }
+
+    /**
+     * Retrieves and removes the next brick from the queue.
+     * Refills the queue if it runs low.
+     *
+     * @return the next Brick.
+     */
+    @Override
+    public Brick getBrick() {
+        if (nextBricks.size() <= 7) {
+            refillBag();
+        }
+        return nextBricks.poll();
+    }
+
+    /**
+     * Peeks at the next brick in the queue without removing it.
+     *
+     * @return the next Brick.
+     */
+    @Override
+    public Brick getNextBrick() {
+        return nextBricks.peek();
+    }
+
+    /**
+     * Saves the seed, the bag count and the queued bricks.
+     *
+     * @return the saved state.
+     */
+    @Override
+    public GeneratorState saveState() {
+        return new GeneratorState(seed, bagIndex, nextBricks);
+    }
+
+    /**
+     * Restores a saved state, continuing the exact same sequence.
+     *
+     * @param state the state to restore.
+     */
+    @Override
+    public void restoreState(GeneratorState state) {
+        seed = state.getSeed();
+        bagIndex = state.getBagIndex();
+        nextBricks.clear();
+        for (int i = 0; i < state.getQueueSize(); i++) {
+            nextBricks.add(bricks[state.getQueuedPieceId(i) - 1]);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shared, immutable table of every brick's rotation shapes.
+ * The table is built once when the class is loaded and handed out as
+ * read-only views, so bricks never need to copy their matrices.
+ */
+public final class ShapeTable {
+
+    public static final int I = 1;
+    public static final int J = 2;
+    public static final int L = 3;
+    public static final int O = 4;
+    public static final int S = 5;
+    public static final int T = 6;
+    public static final int Z = 7;
+
+    /**
+     * Number of distinct bricks.
+     */
+    public static final int PIECE_COUNT = 7;
+
+    private static final List<List<PieceShape>> SHAPES = new ArrayList<>();
+
+    private static final Brick[] BRICKS = {
+            null, new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    static {
+        SHAPES.add(Collections.emptyList());
+        SHAPES.add(build(I, IBrick.ROTATIONS));
+        SHAPES.add(build(J, JBrick.ROTATIONS));
+        SHAPES.add(build(L, LBrick.ROTATIONS));
+        SHAPES.add(build(O, OBrick.ROTATIONS));
+        SHAPES.add(build(S, SBrick.ROTATIONS));
+        SHAPES.add(build(T, TBrick.ROTATIONS));
+        SHAPES.add(build(Z, ZBrick.ROTATIONS));
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ShapeTable() {
+
+    }
+
+    /**
+     * Builds the read-only list of shapes for one brick.
+     *
+     * @param pieceId   the id of the brick.
+     * @param rotations the shape matrix of each rotation.
+     * @return an unmodifiable list of shapes.
+     */
+    private static List<PieceShape> build(int pieceId, int[][][] rotations) {
+        List<PieceShape> shapes = new ArrayList<>();
+        for (int i = 0; i < rotations.length; i++) {
+            shapes.add(new PieceShape(pieceId, i, rotations[i]));
+        }
+        return Collections.unmodifiableList(shapes);
+    }
+
+    /**
+     * Gets every rotation shape of a brick.
+     *
+     * @param pieceId the id of the brick (1-7).
+     * @return an unmodifiable list of the brick's shapes.
+     */
+    public static List<PieceShape> getRotations(int pieceId) {
+        return SHAPES.get(pieceId);
+    }
+
+    /**
+     * Gets a single rotation shape of a brick.
+     *
+     * @param pieceId  the id of the brick (1-7).
+     * @param rotation the rotation index.
+     * @return the shape.
+     */
+    public static PieceShape getShape(int pieceId, int rotation) {
+        return SHAPES.get(pieceId).get(rotation);
+    }
+
+    /**
+     * Gets the shared brick for a piece id, e.g. to rebuild a saved board.
+     * Bricks hold no state, so one instance per piece is enough.
+     *
+     * @param pieceId the id of the brick (1-7).
+     * @return the brick.
+     */
+    public static Brick getBrick(int pieceId) {
+        return BRICKS[pieceId];
+    }
+}
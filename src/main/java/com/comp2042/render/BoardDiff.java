@@ -0,0 +1,94 @@
+package com.comp2042.render;
+
+import java.util.Arrays;
+
+/**
+ * Copy of the board cells a renderer last drew, used to find the cells that
+ * changed since then.
+ * A lock changes the few cells of one brick and a clear the rows above it,
+ * so rows are compared whole first and only differing rows are scanned cell
+ * by cell. Cells start out unknown, so the first diff reports every cell.
+ */
+public final class BoardDiff {
+
+    /**
+     * Receives each cell whose color changed.
+     */
+    @FunctionalInterface
+    public interface CellSink {
+
+        /**
+         * Called for a changed cell.
+         *
+         * @param row   the board row.
+         * @param col   the board column.
+         * @param color the new color index.
+         */
+        void cellChanged(int row, int col, int color);
+    }
+
+    private static final int UNKNOWN = -1;
+
+    private final int[][] shown;
+    private final int firstRow;
+
+    /**
+     * Constructs a new BoardDiff.
+     *
+     * @param rows     the number of board rows.
+     * @param cols     the number of board columns.
+     * @param firstRow the first row that is drawn; rows above it are ignored.
+     */
+    public BoardDiff(int rows, int cols, int firstRow) {
+        this.shown = new int[rows][cols];
+        this.firstRow = firstRow;
+        invalidate();
+    }
+
+    /**
+     * Forgets the drawn cells, so the next diff reports every cell.
+     */
+    public void invalidate() {
+        for (int[] row : shown) {
+            Arrays.fill(row, UNKNOWN);
+        }
+    }
+
+    /**
+     * Reports the cells that differ from the last drawn board and records the
+     * new board as drawn.
+     *
+     * @param board the current board matrix.
+     * @param sink  the receiver of the changed cells.
+     * @return the number of changed cells.
+     */
+    public int diff(int[][] board, CellSink sink) {
+        int changed = 0;
+        for (int row = firstRow; row < shown.length; row++) {
+            int[] current = board[row];
+            int[] previous = shown[row];
+            if (Arrays.equals(current, previous)) {
+                continue;
+            }
+            for (int col = 0; col < previous.length; col++) {
+                if (current[col] != previous[col]) {
+                    previous[col] = current[col];
+                    sink.cellChanged(row, col, current[col]);
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Gets the last drawn color of a cell.
+     *
+     * @param row the board row.
+     * @param col the board column.
+     * @return the color index, or -1 if the cell has not been drawn.
+     */
+    public int get(int row, int col) {
+        return shown[row][col];
+    }
+}
@@ -0,0 +1,307 @@
+package com.comp2042.render;
+
+import com.comp2042.ViewData;
+import com.comp2042.ai.Hint;
+import com.comp2042.logic.bricks.PieceShape;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Renderer that paints the whole playfield onto a single {@link Canvas} in
+ * the game panel, copying cell sprites from a {@link CellAtlas}: the board,
+ * then the hint, the ghost and the falling brick on top. The previews get a
+ * small canvas each.
+ * This keeps the scene graph to a handful of nodes, so no CSS or layout pass
+ * runs for the cells. Only dirty cells are repainted: board cells whose color
+ * changed, found with a {@link BoardDiff}, and the cells the hint, ghost and
+ * brick covered before and after a move. Those overlays are then drawn again
+ * over freshly restored cells, so their transparency never accumulates.
+ * Updates whose {@link ViewData} change stamp or hint equal the last ones
+ * drawn are skipped entirely.
+ */
+public class CanvasRenderer implements PlayfieldRenderer {
+
+    private static final int PITCH = BRICK_SIZE + GAP;
+    private static final double GHOST_OPACITY = 0.3;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final GridPane nextBrickPanel;
+    private final GridPane heldBrickPanel;
+    private final RenderStats stats = new RenderStats();
+
+    private CellAtlas atlas;
+    private GraphicsContext playfield;
+    private GraphicsContext nextPreview;
+    private GraphicsContext heldPreview;
+    private BoardDiff diff;
+    private int rows;
+    private int cols;
+    private boolean[] dirty;
+    private int[] dirtyCells;
+    private int dirtyCount;
+    private int[] overlayCells;
+    private int overlayCount;
+    private ViewData brick;
+    private Hint hint;
+    private int previewStamp = -1;
+    private boolean ghostBlending = true;
+
+    /**
+     * Constructs a new CanvasRenderer.
+     *
+     * @param gamePanel      the grid receiving the playfield canvas.
+     * @param brickPanel     the grid the node renderer shows the brick in,
+     *                       hidden by this renderer.
+     * @param nextBrickPanel the grid receiving the next brick canvas.
+     * @param heldBrickPanel the grid receiving the held brick canvas.
+     */
+    public CanvasRenderer(GridPane gamePanel, GridPane brickPanel, GridPane nextBrickPanel,
+            GridPane heldBrickPanel) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.nextBrickPanel = nextBrickPanel;
+        this.heldBrickPanel = heldBrickPanel;
+    }
+
+    /**
+     * Renders the sprite atlas, creates the canvases and paints every cell.
+     *
+     * @param boardMatrix the current state of the board.
+     * @param brick       the current brick view data.
+     */
+    @Override
+    public void init(int[][] boardMatrix, ViewData brick) {
+        atlas = CellAtlas.create(BRICK_SIZE);
+        rows = boardMatrix.length;
+        cols = boardMatrix[0].length;
+        diff = new BoardDiff(rows, cols, HIDDEN_ROWS);
+        dirty = new boolean[rows * cols];
+        dirtyCells = new int[rows * cols];
+        overlayCells = new int[3 * PREVIEW_SIZE * PREVIEW_SIZE];
+
+        Canvas canvas = new Canvas(cols * PITCH - GAP, (rows - HIDDEN_ROWS) * PITCH - GAP);
+        playfield = canvas.getGraphicsContext2D();
+        gamePanel.add(canvas, 0, 0);
+        brickPanel.setVisible(false);
+        nextPreview = createPreview(nextBrickPanel);
+        heldPreview = createPreview(heldBrickPanel);
+        this.brick = brick;
+        drawBackground(boardMatrix);
+        drawPreviews(brick);
+    }
+
+    /**
+     * Adds a preview-sized canvas to a grid.
+     *
+     * @param panel the grid.
+     * @return the canvas' graphics context.
+     */
+    private static GraphicsContext createPreview(GridPane panel) {
+        Canvas preview = new Canvas(PREVIEW_SIZE * PITCH - GAP, PREVIEW_SIZE * PITCH - GAP);
+        panel.add(preview, 0, 0);
+        return preview.getGraphicsContext2D();
+    }
+
+    /**
+     * Repaints the board cells that changed.
+     *
+     * @param board the board matrix data.
+     */
+    @Override
+    public void drawBackground(int[][] board) {
+        diff.diff(board, (row, col, color) -> markDirty(row, col));
+        flush();
+    }
+
+    /**
+     * Repaints the cells the brick and its ghost left and entered.
+     *
+     * @param brick the view data of the current brick.
+     */
+    @Override
+    public void drawBrick(ViewData brick) {
+        if (this.brick != null && brick.getBrickStamp() == this.brick.getBrickStamp()) {
+            return;
+        }
+        this.brick = brick;
+        flush();
+    }
+
+    /**
+     * Repaints the cells the old and new hint cover.
+     *
+     * @param hint the hint, or null to hide it.
+     */
+    @Override
+    public void drawHint(Hint hint) {
+        if (hint == this.hint) {
+            return;
+        }
+        this.hint = hint;
+        flush();
+    }
+
+    /**
+     * Repaints both previews if either brick changed.
+     *
+     * @param brick the view data holding the next and held bricks.
+     */
+    @Override
+    public void drawPreviews(ViewData brick) {
+        if (brick.getPreviewStamp() == previewStamp) {
+            return;
+        }
+        previewStamp = brick.getPreviewStamp();
+        drawPreview(nextPreview, brick.getNextShape());
+        drawPreview(heldPreview, brick.getHeldShape());
+        stats.touch(2 * PREVIEW_SIZE * PREVIEW_SIZE);
+    }
+
+    /**
+     * Switches between the translucent and the outlined ghost.
+     *
+     * @param blending true for the translucent ghost.
+     */
+    @Override
+    public void setGhostBlending(boolean blending) {
+        if (blending == ghostBlending) {
+            return;
+        }
+        ghostBlending = blending;
+        flush();
+    }
+
+    /**
+     * Gets the counters of the cells this renderer repainted.
+     *
+     * @return the render statistics.
+     */
+    @Override
+    public RenderStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Repaints one preview.
+     *
+     * @param gc    the preview's graphics context.
+     * @param shape the shape of the brick, or null to clear the preview.
+     */
+    private void drawPreview(GraphicsContext gc, PieceShape shape) {
+        gc.clearRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        if (shape == null) {
+            return;
+        }
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            atlas.draw(gc, CellAtlas.SOLID, shape.getPieceId(), shape.getCellCol(i) * PITCH,
+                    shape.getCellRow(i) * PITCH);
+        }
+    }
+
+    /**
+     * Marks a board cell for repainting. Cells outside the visible board are
+     * ignored.
+     *
+     * @param row the board row.
+     * @param col the board column.
+     */
+    private void markDirty(int row, int col) {
+        if (row < HIDDEN_ROWS || row >= rows || col < 0 || col >= cols) {
+            return;
+        }
+        int cell = row * cols + col;
+        if (!dirty[cell]) {
+            dirty[cell] = true;
+            dirtyCells[dirtyCount++] = cell;
+        }
+    }
+
+    /**
+     * Repaints the dirty cells: marks the cells the overlays covered and now
+     * cover, restores the board sprite of every dirty cell, then draws the
+     * hint, the ghost and the brick over them.
+     */
+    private void flush() {
+        for (int i = 0; i < overlayCount; i++) {
+            markDirty(overlayCells[i] / cols, overlayCells[i] % cols);
+        }
+        overlayCount = 0;
+        PieceShape brickShape = brick != null ? brick.getBrickShape() : null;
+        PieceShape hintShape = hint != null ? hint.getShape() : null;
+        if (hintShape != null) {
+            coverCells(hintShape, hint.getX(), hint.getY());
+        }
+        if (brickShape != null) {
+            coverCells(brickShape, brick.getxPosition(), brick.getGhostY());
+            coverCells(brickShape, brick.getxPosition(), brick.getyPosition());
+        }
+
+        for (int i = 0; i < dirtyCount; i++) {
+            int cell = dirtyCells[i];
+            dirty[cell] = false;
+            int row = cell / cols;
+            int col = cell % cols;
+            double x = col * PITCH;
+            double y = (row - HIDDEN_ROWS) * PITCH;
+            playfield.clearRect(x, y, BRICK_SIZE, BRICK_SIZE);
+            atlas.draw(playfield, CellAtlas.SOLID, diff.get(row, col), x, y);
+        }
+        stats.touch(dirtyCount);
+        dirtyCount = 0;
+
+        if (hintShape != null) {
+            playfield.setGlobalAlpha(hint.isHold() ? 0.4 : 0.8);
+            drawCells(CellAtlas.OUTLINE, hintShape, hint.getX(), hint.getY());
+        }
+        if (brickShape != null) {
+            if (ghostBlending) {
+                playfield.setGlobalAlpha(GHOST_OPACITY);
+                drawCells(CellAtlas.SOLID, brickShape, brick.getxPosition(), brick.getGhostY());
+                playfield.setGlobalAlpha(1);
+            } else {
+                drawCells(CellAtlas.OUTLINE, brickShape, brick.getxPosition(), brick.getGhostY());
+            }
+            drawCells(CellAtlas.SOLID, brickShape, brick.getxPosition(), brick.getyPosition());
+        }
+        playfield.setGlobalAlpha(1);
+    }
+
+    /**
+     * Records the visible cells a brick covers as overlay cells and marks
+     * them dirty.
+     *
+     * @param shape the brick shape.
+     * @param x     the board column of the shape's left edge.
+     * @param y     the board row of the shape's top edge.
+     */
+    private void coverCells(PieceShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = y + shape.getCellRow(i);
+            int col = x + shape.getCellCol(i);
+            if (row >= HIDDEN_ROWS && row < rows && col >= 0 && col < cols) {
+                overlayCells[overlayCount++] = row * cols + col;
+                markDirty(row, col);
+            }
+        }
+    }
+
+    /**
+     * Draws the visible cells of a brick.
+     *
+     * @param style the sprite style.
+     * @param shape the brick shape.
+     * @param x     the board column of the shape's left edge.
+     * @param y     the board row of the shape's top edge.
+     */
+    private void drawCells(int style, PieceShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = y + shape.getCellRow(i);
+            if (row >= HIDDEN_ROWS) {
+                atlas.draw(playfield, style, shape.getPieceId(), (x + shape.getCellCol(i)) * PITCH,
+                        (row - HIDDEN_ROWS) * PITCH);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.comp2042.render;
+
+import com.comp2042.ColorHelper;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+/**
+ * Prebuilt image of every cell sprite the {@link CanvasRenderer} draws, laid
+ * out as one row per style and one column per color index.
+ * Each sprite is rendered once with the same rounded corners and inside
+ * strokes the {@link NodeRenderer} gives its rectangles, so drawing a cell is
+ * a single image copy.
+ */
+public final class CellAtlas {
+
+    /**
+     * Filled brick cell with a black border; color 0 is the dim empty grid
+     * cell.
+     */
+    public static final int SOLID = 0;
+
+    /**
+     * Outline in the brick's color, used for the placement hint and the
+     * unblended ghost.
+     */
+    public static final int OUTLINE = 1;
+
+    private static final int STYLE_COUNT = 2;
+    private static final int COLOR_COUNT = 8;
+    private static final double ARC = 5;
+
+    private final Image image;
+    private final int size;
+
+    /**
+     * Constructs a new CellAtlas.
+     *
+     * @param image the sprite image.
+     * @param size  the size of one sprite in pixels.
+     */
+    private CellAtlas(Image image, int size) {
+        this.image = image;
+        this.size = size;
+    }
+
+    /**
+     * Renders the sprites. Must be called on the JavaFX application thread.
+     *
+     * @param size the size of one cell in pixels.
+     * @return the atlas.
+     */
+    public static CellAtlas create(int size) {
+        Canvas canvas = new Canvas(size * COLOR_COUNT, size * STYLE_COUNT);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        for (int color = 0; color < COLOR_COUNT; color++) {
+            double x = color * size;
+            if (color == 0) {
+                // Empty grid cell: Super dim
+                gc.setStroke(Color.rgb(255, 255, 255, 0.05));
+                gc.setLineWidth(1);
+                gc.strokeRoundRect(x + 0.5, 0.5, size - 1, size - 1, ARC, ARC);
+                continue;
+            }
+            gc.setFill(ColorHelper.getFillColor(color));
+            gc.fillRoundRect(x, 0, size, size, ARC, ARC);
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(2);
+            gc.strokeRoundRect(x + 1, 1, size - 2, size - 2, ARC, ARC);
+
+            gc.setStroke(ColorHelper.getFillColor(color));
+            gc.strokeRoundRect(x + 1, size + 1, size - 2, size - 2, ARC, ARC);
+        }
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return new CellAtlas(canvas.snapshot(parameters, null), size);
+    }
+
+    /**
+     * Draws one sprite.
+     *
+     * @param gc    the graphics context to draw into.
+     * @param style the sprite style, {@link #SOLID} or {@link #OUTLINE}.
+     * @param color the color index (0-7).
+     * @param x     the x-coordinate of the cell's top left corner.
+     * @param y     the y-coordinate of the cell's top left corner.
+     */
+    public void draw(GraphicsContext gc, int style, int color, double x, double y) {
+        gc.drawImage(image, color * size, style * size, size, size, x, y, size, size);
+    }
+
+    /**
+     * Gets the size of one sprite.
+     *
+     * @return the sprite size in pixels.
+     */
+    public int getSize() {
+        return size;
+    }
+}
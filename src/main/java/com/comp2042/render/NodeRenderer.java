@@ -0,0 +1,359 @@
+package com.comp2042.render;
+
+import com.comp2042.ColorHelper;
+import com.comp2042.ViewData;
+import com.comp2042.ai.Hint;
+import com.comp2042.logic.bricks.PieceShape;
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeType;
+
+/**
+ * Renderer that shows every cell as its own {@link Rectangle} node: one per
+ * visible board cell in the game panel, and grids of 16 for the falling brick,
+ * its ghost, the hint and the previews. The brick, ghost and hint grids are
+ * moved over the board by their layout position. Board cells are only
+ * restyled when their color changed since the last refresh, and the brick,
+ * hint and previews only when their {@link ViewData} change stamp or hint
+ * differs from the last one drawn; a brick that only moved keeps its
+ * styling and just has its grids repositioned.
+ */
+public class NodeRenderer implements PlayfieldRenderer {
+
+    private static final double GHOST_OPACITY = 0.3;
+
+    private final Node gameBoard;
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final GridPane nextBrickPanel;
+    private final GridPane heldBrickPanel;
+    private final RenderStats stats = new RenderStats();
+
+    private Rectangle[][] displayMatrix;
+    private BoardDiff diff;
+    private Rectangle[][] rectangles;
+    private GridPane ghostPanel;
+    private Rectangle[][] ghostRectangles;
+    private GridPane hintPanel;
+    private Rectangle[][] hintRectangles;
+    private Rectangle[][] nextRectangles;
+    private Rectangle[][] heldRectangles;
+    private long brickStamp = -1;
+    private PieceShape brickShape;
+    private int previewStamp = -1;
+    private Hint hint;
+    private boolean ghostBlending = true;
+
+    /**
+     * Constructs a new NodeRenderer.
+     *
+     * @param gameBoard      the pane framing the board.
+     * @param gamePanel      the grid receiving the board cells.
+     * @param brickPanel     the grid showing the falling brick.
+     * @param nextBrickPanel the grid showing the next brick.
+     * @param heldBrickPanel the grid showing the held brick.
+     */
+    public NodeRenderer(Node gameBoard, GridPane gamePanel, GridPane brickPanel, GridPane nextBrickPanel,
+            GridPane heldBrickPanel) {
+        this.gameBoard = gameBoard;
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.nextBrickPanel = nextBrickPanel;
+        this.heldBrickPanel = heldBrickPanel;
+    }
+
+    /**
+     * Creates the rectangles of the board, the brick, its ghost, the hint and
+     * the previews.
+     *
+     * @param boardMatrix the current state of the board.
+     * @param brick       the current brick view data.
+     */
+    @Override
+    public void init(int[][] boardMatrix, ViewData brick) {
+        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        diff = new BoardDiff(boardMatrix.length, boardMatrix[0].length, HIDDEN_ROWS);
+        for (int i = HIDDEN_ROWS; i < boardMatrix.length; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                rectangle.setFill(Color.TRANSPARENT);
+                displayMatrix[i][j] = rectangle;
+                gamePanel.add(rectangle, j, i - HIDDEN_ROWS);
+            }
+        }
+
+        int size = brick.getBrickSize();
+        rectangles = new Rectangle[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                rectangle.setFill(ColorHelper.getFillColor(brick.getBrickCell(i, j)));
+                rectangles[i][j] = rectangle;
+                brickPanel.add(rectangle, j, i);
+            }
+        }
+
+        ghostPanel = new GridPane();
+        ghostPanel.setVgap(brickPanel.getVgap());
+        ghostPanel.setHgap(brickPanel.getHgap());
+        ghostRectangles = new Rectangle[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                rectangle.setFill(ColorHelper.getFillColor(brick.getBrickCell(i, j)));
+                rectangle.setOpacity(GHOST_OPACITY); // Ghost effect
+                ghostRectangles[i][j] = rectangle;
+                ghostPanel.add(rectangle, j, i);
+            }
+        }
+        hintPanel = new GridPane();
+        hintPanel.setVgap(brickPanel.getVgap());
+        hintPanel.setHgap(brickPanel.getHgap());
+        hintPanel.setVisible(false);
+        hintRectangles = createGrid(hintPanel);
+        Pane parent = (Pane) brickPanel.getParent();
+        int brickIndex = parent.getChildren().indexOf(brickPanel);
+        parent.getChildren().add(brickIndex, ghostPanel);
+        parent.getChildren().add(brickIndex, hintPanel);
+
+        nextRectangles = createGrid(nextBrickPanel);
+        heldRectangles = createGrid(heldBrickPanel);
+        drawBrick(brick);
+        drawPreviews(brick);
+    }
+
+    /**
+     * Fills a grid with transparent preview-sized rectangles.
+     *
+     * @param panel the grid to fill.
+     * @return the rectangles, indexed by row and column.
+     */
+    private static Rectangle[][] createGrid(GridPane panel) {
+        Rectangle[][] grid = new Rectangle[PREVIEW_SIZE][PREVIEW_SIZE];
+        for (int i = 0; i < PREVIEW_SIZE; i++) {
+            for (int j = 0; j < PREVIEW_SIZE; j++) {
+                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                rectangle.setFill(Color.TRANSPARENT);
+                grid[i][j] = rectangle;
+                panel.add(rectangle, j, i);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Restyles the visible board cells that changed.
+     *
+     * @param board the board matrix data.
+     */
+    @Override
+    public void drawBackground(int[][] board) {
+        stats.touch(diff.diff(board, (row, col, color) -> setRectangleData(color, displayMatrix[row][col])));
+    }
+
+    /**
+     * Moves the brick and ghost grids, and restyles their cells if the shape
+     * or rotation changed.
+     *
+     * @param brick the view data of the current brick.
+     */
+    @Override
+    public void drawBrick(ViewData brick) {
+        if (brick.getBrickStamp() == brickStamp) {
+            return;
+        }
+        brickStamp = brick.getBrickStamp();
+        brickPanel.setLayoutX(layoutX(brick.getxPosition()));
+        brickPanel.setLayoutY(layoutY(brick.getyPosition()));
+        ghostPanel.setLayoutX(layoutX(brick.getxPosition()));
+        ghostPanel.setLayoutY(layoutY(brick.getGhostY()));
+        if (brick.getBrickShape() == brickShape) {
+            return;
+        }
+        brickShape = brick.getBrickShape();
+        int size = brick.getBrickSize();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                setRectangleData(brick.getBrickCell(i, j), rectangles[i][j]);
+                setGhostData(brick.getBrickCell(i, j), ghostRectangles[i][j]);
+            }
+        }
+        stats.touch(2 * size * size);
+    }
+
+    /**
+     * Shows the hint as an outline where the brick should lock.
+     *
+     * @param hint the hint, or null to hide it.
+     */
+    @Override
+    public void drawHint(Hint hint) {
+        if (hint == this.hint) {
+            return;
+        }
+        this.hint = hint;
+        if (hint == null) {
+            hintPanel.setVisible(false);
+            return;
+        }
+        PieceShape shape = hint.getShape();
+        for (int i = 0; i < PREVIEW_SIZE; i++) {
+            for (int j = 0; j < PREVIEW_SIZE; j++) {
+                int color = i < shape.getSize() && j < shape.getSize() ? shape.getCell(i, j) : 0;
+                Rectangle rectangle = hintRectangles[i][j];
+                rectangle.setFill(Color.TRANSPARENT);
+                rectangle.setStroke(color == 0 ? Color.TRANSPARENT : ColorHelper.getFillColor(color));
+                rectangle.setStrokeWidth(2);
+                rectangle.setStrokeType(StrokeType.INSIDE);
+                rectangle.setArcHeight(5);
+                rectangle.setArcWidth(5);
+            }
+        }
+        stats.touch(PREVIEW_SIZE * PREVIEW_SIZE);
+        hintPanel.setLayoutX(layoutX(hint.getX()));
+        hintPanel.setLayoutY(layoutY(hint.getY()));
+        hintPanel.setOpacity(hint.isHold() ? 0.4 : 0.8);
+        hintPanel.setVisible(true);
+    }
+
+    /**
+     * Restyles the next and held brick grids if either brick changed.
+     *
+     * @param brick the view data holding the next and held bricks.
+     */
+    @Override
+    public void drawPreviews(ViewData brick) {
+        if (brick.getPreviewStamp() == previewStamp) {
+            return;
+        }
+        previewStamp = brick.getPreviewStamp();
+        drawPreview(brick.getNextShape(), nextRectangles);
+        drawPreview(brick.getHeldShape(), heldRectangles);
+        stats.touch(2 * PREVIEW_SIZE * PREVIEW_SIZE);
+    }
+
+    /**
+     * Switches between the translucent and the outlined ghost, restyling the
+     * ghost cells if the choice changed.
+     *
+     * @param blending true for the translucent ghost.
+     */
+    @Override
+    public void setGhostBlending(boolean blending) {
+        if (blending == ghostBlending) {
+            return;
+        }
+        ghostBlending = blending;
+        if (brickShape == null) {
+            return;
+        }
+        int size = brickShape.getSize();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                setGhostData(brickShape.getCell(i, j), ghostRectangles[i][j]);
+            }
+        }
+        stats.touch(size * size);
+    }
+
+    /**
+     * Gets the counters of the cell nodes this renderer restyled.
+     *
+     * @return the render statistics.
+     */
+    @Override
+    public RenderStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Restyles one preview grid.
+     *
+     * @param shape the shape of the brick, or null to clear the grid.
+     * @param grid  the rectangles of the grid.
+     */
+    private void drawPreview(PieceShape shape, Rectangle[][] grid) {
+        // Clear previous
+        for (int i = 0; i < PREVIEW_SIZE; i++) {
+            for (int j = 0; j < PREVIEW_SIZE; j++) {
+                grid[i][j].setFill(Color.TRANSPARENT);
+                grid[i][j].setStroke(Color.TRANSPARENT);
+            }
+        }
+        if (shape == null) {
+            return;
+        }
+        // Draw new
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            setRectangleData(shape.getPieceId(), grid[shape.getCellRow(i)][shape.getCellCol(i)]);
+        }
+    }
+
+    /**
+     * Computes the layout x-coordinate of a grid placed at a board column.
+     *
+     * @param x the board column.
+     * @return the layout x-coordinate.
+     */
+    private double layoutX(int x) {
+        return gameBoard.getLayoutX() + gamePanel.getLayoutX() + x * brickPanel.getVgap() + x * BRICK_SIZE;
+    }
+
+    /**
+     * Computes the layout y-coordinate of a grid placed at a board row,
+     * shifted up past the hidden rows.
+     *
+     * @param y the board row.
+     * @return the layout y-coordinate.
+     */
+    private double layoutY(int y) {
+        return -42 + gameBoard.getLayoutY() + gamePanel.getLayoutY() + y * brickPanel.getHgap() + y * BRICK_SIZE;
+    }
+
+    /**
+     * Styles one ghost cell as a translucent brick cell, or as an opaque
+     * outline if ghost blending is off.
+     *
+     * @param color     the color index for the rectangle.
+     * @param rectangle the rectangle object to update.
+     */
+    private void setGhostData(int color, Rectangle rectangle) {
+        if (ghostBlending) {
+            setRectangleData(color, rectangle);
+            rectangle.setOpacity(GHOST_OPACITY);
+            return;
+        }
+        rectangle.setFill(Color.TRANSPARENT);
+        rectangle.setStroke(color == 0 ? Color.TRANSPARENT : ColorHelper.getFillColor(color));
+        rectangle.setStrokeWidth(2);
+        rectangle.setStrokeType(StrokeType.INSIDE);
+        rectangle.setArcHeight(5);
+        rectangle.setArcWidth(5);
+        rectangle.setOpacity(1);
+    }
+
+    /**
+     * Helper method to set the properties of a rectangle in the grid.
+     *
+     * @param color     the color index for the rectangle.
+     * @param rectangle the rectangle object to update.
+     */
+    private static void setRectangleData(int color, Rectangle rectangle) {
+        rectangle.setFill(ColorHelper.getFillColor(color));
+        rectangle.setArcHeight(5); // Reduced from 9 for better "brick" look
+        rectangle.setArcWidth(5);
+        if (color == 0) {
+            // Empty grid cell: Super dim
+            rectangle.setStroke(Color.rgb(255, 255, 255, 0.05));
+            rectangle.setStrokeWidth(1);
+        } else {
+            // Active brick: High contrast
+            rectangle.setStroke(Color.BLACK);
+            rectangle.setStrokeWidth(2);
+        }
+        rectangle.setStrokeType(StrokeType.INSIDE); // Ensure border doesn't overflow
+    }
+}
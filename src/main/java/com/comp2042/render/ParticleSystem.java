@@ -0,0 +1,224 @@
+package com.comp2042.render;
+
+import com.comp2042.ColorHelper;
+import javafx.animation.AnimationTimer;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Line-clear particles drawn on one overlay {@link Canvas}.
+ * Particles live in a fixed pool of parallel arrays sized by the particle
+ * budget, so bursts allocate nothing; when the pool is full, the oldest
+ * particles are reused. A single {@link AnimationTimer} moves and fades every
+ * particle and runs only while any is alive.
+ * Each particle is a prebuilt sprite of a neon disc, rendered once per color
+ * with its glow baked in, so no per-particle effect is ever evaluated. The
+ * glow can be turned off to draw plain discs instead.
+ */
+public class ParticleSystem {
+
+    /**
+     * Default maximum number of live particles.
+     */
+    public static final int DEFAULT_BUDGET = 256;
+
+    private static final double LIFETIME_SECONDS = 0.8;
+    private static final double SPREAD = 150;
+    private static final double RISE = 20;
+    private static final double MAX_RADIUS = 5;
+    private static final double GLOW_RADIUS = 5;
+    private static final int COLOR_COUNT = 7;
+
+    private final GraphicsContext gc;
+    private final int budget;
+    private final double[] startX;
+    private final double[] startY;
+    private final double[] deltaX;
+    private final double[] deltaY;
+    private final double[] radius;
+    private final double[] age;
+    private final int[] color;
+    private final Image[] glowSprites = new Image[COLOR_COUNT + 1];
+    private final Image[] flatSprites = new Image[COLOR_COUNT + 1];
+    private final SplittableRandom random = new SplittableRandom();
+    private final AnimationTimer timer;
+    private int next;
+    private int alive;
+    private long lastFrame;
+    private boolean glow = true;
+
+    /**
+     * Constructs a new ParticleSystem. Must be called on the JavaFX
+     * application thread.
+     *
+     * @param canvas the overlay canvas to draw on.
+     * @param budget the maximum number of live particles.
+     */
+    public ParticleSystem(Canvas canvas, int budget) {
+        this.gc = canvas.getGraphicsContext2D();
+        this.budget = budget;
+        startX = new double[budget];
+        startY = new double[budget];
+        deltaX = new double[budget];
+        deltaY = new double[budget];
+        radius = new double[budget];
+        age = new double[budget];
+        color = new int[budget];
+        Arrays.fill(age, LIFETIME_SECONDS);
+        for (int i = 1; i <= COLOR_COUNT; i++) {
+            glowSprites[i] = createSprite(i, true);
+            flatSprites[i] = createSprite(i, false);
+        }
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                double elapsed = lastFrame == 0 ? 0 : (now - lastFrame) / 1e9;
+                lastFrame = now;
+                step(elapsed);
+            }
+        };
+    }
+
+    /**
+     * Renders the sprite of one particle color.
+     *
+     * @param colorIndex the color index (1-7).
+     * @param withGlow   whether to bake in the glow.
+     * @return the sprite.
+     */
+    private static Image createSprite(int colorIndex, boolean withGlow) {
+        double size = 2 * (MAX_RADIUS + GLOW_RADIUS);
+        Canvas canvas = new Canvas(size, size);
+        GraphicsContext sprite = canvas.getGraphicsContext2D();
+        Color fill = (Color) ColorHelper.getFillColor(colorIndex);
+        if (withGlow) {
+            DropShadow shadow = new DropShadow();
+            shadow.setColor(fill);
+            shadow.setRadius(GLOW_RADIUS);
+            shadow.setSpread(0.5);
+            sprite.setEffect(shadow);
+        }
+        sprite.setFill(fill);
+        sprite.fillOval(GLOW_RADIUS, GLOW_RADIUS, 2 * MAX_RADIUS, 2 * MAX_RADIUS);
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parameters, null);
+    }
+
+    /**
+     * Spawns particles at random points of a rectangle, flying outwards and
+     * slightly up while they fade.
+     *
+     * @param left   the left edge of the rectangle.
+     * @param top    the top edge of the rectangle.
+     * @param width  the width of the rectangle.
+     * @param height the height of the rectangle.
+     * @param count  the number of particles.
+     */
+    public void burst(double left, double top, double width, double height, int count) {
+        for (int n = 0; n < count && budget > 0; n++) {
+            int i = next;
+            next = (next + 1) % budget;
+            if (age[i] >= LIFETIME_SECONDS) {
+                alive++;
+            }
+            startX[i] = left + random.nextDouble() * width;
+            startY[i] = top + random.nextDouble() * height;
+            deltaX[i] = (random.nextDouble() - 0.5) * SPREAD;
+            deltaY[i] = (random.nextDouble() - 0.5) * SPREAD - RISE;
+            radius[i] = random.nextDouble() * 3 + 2;
+            color[i] = random.nextInt(COLOR_COUNT) + 1;
+            age[i] = 0;
+        }
+        if (alive > 0) {
+            timer.start();
+        }
+    }
+
+    /**
+     * Advances every live particle and redraws the canvas. Stops the timer
+     * once the last particle has faded.
+     *
+     * @param elapsed the time since the previous frame in seconds.
+     */
+    private void step(double elapsed) {
+        gc.clearRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        Image[] sprites = glow ? glowSprites : flatSprites;
+        for (int i = 0; i < budget; i++) {
+            if (age[i] >= LIFETIME_SECONDS) {
+                continue;
+            }
+            age[i] += elapsed;
+            if (age[i] >= LIFETIME_SECONDS) {
+                alive--;
+                continue;
+            }
+            double t = ease(age[i] / LIFETIME_SECONDS);
+            double scale = radius[i] / MAX_RADIUS;
+            double extent = (MAX_RADIUS + GLOW_RADIUS) * scale;
+            gc.setGlobalAlpha(1 - t);
+            gc.drawImage(sprites[color[i]], startX[i] + deltaX[i] * t - extent, startY[i] + deltaY[i] * t - extent,
+                    2 * extent, 2 * extent);
+        }
+        gc.setGlobalAlpha(1);
+        if (alive == 0) {
+            stop();
+        }
+    }
+
+    /**
+     * Eases the progress of an animation in and out, like the default
+     * interpolator of JavaFX transitions.
+     *
+     * @param t the linear progress from 0 to 1.
+     * @return the eased progress.
+     */
+    private static double ease(double t) {
+        return t * t * (3 - 2 * t);
+    }
+
+    /**
+     * Removes every particle and stops the timer.
+     */
+    public void stop() {
+        timer.stop();
+        lastFrame = 0;
+        Arrays.fill(age, LIFETIME_SECONDS);
+        alive = 0;
+        gc.clearRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+    }
+
+    /**
+     * Turns the baked-in glow of the particles on or off.
+     *
+     * @param glow true to draw glowing particles.
+     */
+    public void setGlow(boolean glow) {
+        this.glow = glow;
+    }
+
+    /**
+     * Gets the number of live particles.
+     *
+     * @return the particle count.
+     */
+    public int getAliveCount() {
+        return alive;
+    }
+
+    /**
+     * Gets the maximum number of live particles.
+     *
+     * @return the particle budget.
+     */
+    public int getBudget() {
+        return budget;
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042.render;
+
+import com.comp2042.ViewData;
+import com.comp2042.ai.Hint;
+
+/**
+ * Draws the playfield of the game view: the settled cells, the falling brick
+ * with its ghost and placement hint, and the next and held brick previews.
+ * All methods are called on the JavaFX application thread.
+ */
+public interface PlayfieldRenderer {
+
+    /**
+     * Size of one cell in pixels.
+     */
+    int BRICK_SIZE = 20;
+
+    /**
+     * Gap between neighbouring cells in pixels.
+     */
+    int GAP = 1;
+
+    /**
+     * Number of rows at the top of the board that are not shown.
+     */
+    int HIDDEN_ROWS = 2;
+
+    /**
+     * Number of rows and columns of the preview grids.
+     */
+    int PREVIEW_SIZE = 4;
+
+    /**
+     * Builds the playfield for a board and its first brick.
+     *
+     * @param boardMatrix the current state of the board.
+     * @param brick       the current brick view data.
+     */
+    void init(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Draws the settled cells.
+     *
+     * @param board the board matrix data.
+     */
+    void drawBackground(int[][] board);
+
+    /**
+     * Draws the falling brick and its ghost. Nothing is drawn if the brick's
+     * change stamp equals that of the last brick drawn.
+     *
+     * @param brick the view data of the current brick.
+     */
+    void drawBrick(ViewData brick);
+
+    /**
+     * Draws the placement hint, or hides it.
+     *
+     * @param hint the hint, or null to hide it.
+     */
+    void drawHint(Hint hint);
+
+    /**
+     * Draws the next and held brick previews. Nothing is drawn if the
+     * previews' change stamp equals that of the last previews drawn.
+     *
+     * @param brick the view data holding the next and held bricks.
+     */
+    void drawPreviews(ViewData brick);
+
+    /**
+     * Chooses how the ghost is drawn: as a translucent copy of the brick, or
+     * as an opaque outline that needs no alpha blending. The ghost is redrawn
+     * at once if the choice changed.
+     *
+     * @param blending true for the translucent ghost.
+     */
+    void setGhostBlending(boolean blending);
+
+    /**
+     * Gets the counters of the cells this renderer touched.
+     *
+     * @return the render statistics.
+     */
+    RenderStats getStats();
+}
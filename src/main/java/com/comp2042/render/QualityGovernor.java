@@ -0,0 +1,159 @@
+package com.comp2042.render;
+
+/**
+ * Picks a visual quality level from measured frame times.
+ * The view feeds it the timestamp of every pulse. Pulse intervals are
+ * averaged over windows of frames; a window that runs well over the frame
+ * budget steps the quality down one level, and several windows in a row with
+ * headroom step it back up one level. Stepping down is quick and stepping up
+ * is slow, and a restore that is followed at once by another step down makes
+ * the next restore wait twice as long, so the level does not flicker between
+ * two settings on a machine that sits near the budget.
+ * Long stalls, such as a dragged or hidden window, are not counted as frames.
+ */
+public final class QualityGovernor {
+
+    /**
+     * Every effect is on.
+     */
+    public static final int FULL = 0;
+
+    /**
+     * The scanline overlay is off.
+     */
+    public static final int NO_SCANLINES = 1;
+
+    /**
+     * Glows on particles and score popups are off and the ghost is drawn
+     * without alpha blending.
+     */
+    public static final int NO_GLOW = 2;
+
+    /**
+     * The stylesheet's drop shadows are off too.
+     */
+    public static final int MINIMAL = 3;
+
+    /**
+     * Frame budget of a 60 Hz pulse in nanoseconds.
+     */
+    public static final long DEFAULT_FRAME_BUDGET_NANOS = 1_000_000_000L / 60;
+
+    /**
+     * Number of frames averaged before the level is reconsidered.
+     */
+    public static final int WINDOW_FRAMES = 30;
+
+    /**
+     * Number of windows with headroom needed before the first restore.
+     */
+    public static final int RESTORE_WINDOWS = 4;
+
+    private static final double SLOW_FACTOR = 1.25;
+    private static final double FAST_FACTOR = 1.05;
+    private static final int MAX_RESTORE_WINDOWS = 64;
+    private static final long MAX_INTERVAL_NANOS = 250_000_000L;
+
+    private final long frameBudgetNanos;
+    private long lastPulse = -1;
+    private long windowNanos;
+    private int windowFrames;
+    private int fastWindows;
+    private int restoreWindows = RESTORE_WINDOWS;
+    private boolean justRestored;
+    private int level = FULL;
+    private int changes;
+
+    /**
+     * Constructs a new QualityGovernor at full quality.
+     *
+     * @param frameBudgetNanos the longest acceptable frame in nanoseconds.
+     */
+    public QualityGovernor(long frameBudgetNanos) {
+        this.frameBudgetNanos = frameBudgetNanos;
+    }
+
+    /**
+     * Records a pulse and adjusts the level at the end of each window.
+     *
+     * @param now the pulse timestamp in nanoseconds.
+     * @return true if the level changed.
+     */
+    public boolean pulse(long now) {
+        long last = lastPulse;
+        lastPulse = now;
+        if (last < 0 || now - last <= 0 || now - last > MAX_INTERVAL_NANOS) {
+            return false;
+        }
+        windowNanos += now - last;
+        if (++windowFrames < WINDOW_FRAMES) {
+            return false;
+        }
+        double average = (double) windowNanos / windowFrames;
+        windowNanos = 0;
+        windowFrames = 0;
+        boolean restored = justRestored;
+        justRestored = false;
+
+        if (average > frameBudgetNanos * SLOW_FACTOR) {
+            fastWindows = 0;
+            if (restored) {
+                restoreWindows = Math.min(2 * restoreWindows, MAX_RESTORE_WINDOWS);
+            }
+            return setLevel(level + 1);
+        }
+        if (average >= frameBudgetNanos * FAST_FACTOR) {
+            fastWindows = 0;
+            return false;
+        }
+        if (++fastWindows < restoreWindows || level == FULL) {
+            return false;
+        }
+        fastWindows = 0;
+        justRestored = true;
+        return setLevel(level - 1);
+    }
+
+    /**
+     * Moves to a level, clamped to the valid range.
+     *
+     * @param newLevel the level to move to.
+     * @return true if the level changed.
+     */
+    private boolean setLevel(int newLevel) {
+        int clamped = Math.max(FULL, Math.min(MINIMAL, newLevel));
+        if (clamped == level) {
+            return false;
+        }
+        level = clamped;
+        changes++;
+        return true;
+    }
+
+    /**
+     * Gets the current quality level, from {@link #FULL} to {@link #MINIMAL}.
+     *
+     * @return the level.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of times the level changed.
+     *
+     * @return the change count.
+     */
+    public int getChanges() {
+        return changes;
+    }
+
+    /**
+     * Gets the number of windows with headroom the next restore waits for.
+     *
+     * @return the window count.
+     */
+    public int getRestoreWindows() {
+        return restoreWindows;
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.render;
+
+/**
+ * Counts the cells a renderer touches per frame: cells repainted on the
+ * canvas, or cell nodes restyled by the node renderer.
+ * The renderer adds to the current frame as it draws and the view closes the
+ * frame once per pulse. Used on the JavaFX application thread only.
+ */
+public final class RenderStats {
+
+    private int frameCells;
+    private int lastFrameCells;
+    private int maxFrameCells;
+    private long totalCells;
+    private long frames;
+    private long drawnFrames;
+
+    /**
+     * Adds touched cells to the current frame.
+     *
+     * @param cells the number of cells.
+     */
+    public void touch(int cells) {
+        frameCells += cells;
+    }
+
+    /**
+     * Closes the current frame and starts counting the next one.
+     */
+    public void endFrame() {
+        lastFrameCells = frameCells;
+        maxFrameCells = Math.max(maxFrameCells, frameCells);
+        totalCells += frameCells;
+        frames++;
+        if (frameCells > 0) {
+            drawnFrames++;
+        }
+        frameCells = 0;
+    }
+
+    /**
+     * Gets the number of cells touched in the last closed frame.
+     *
+     * @return the cell count.
+     */
+    public int getLastFrameCells() {
+        return lastFrameCells;
+    }
+
+    /**
+     * Gets the most cells touched in any closed frame.
+     *
+     * @return the cell count.
+     */
+    public int getMaxFrameCells() {
+        return maxFrameCells;
+    }
+
+    /**
+     * Gets the number of cells touched in all closed frames.
+     *
+     * @return the cell count.
+     */
+    public long getTotalCells() {
+        return totalCells;
+    }
+
+    /**
+     * Gets the number of closed frames.
+     *
+     * @return the frame count.
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * Gets the number of closed frames that touched at least one cell.
+     *
+     * @return the frame count.
+     */
+    public long getDrawnFrames() {
+        return drawnFrames;
+    }
+
+    /**
+     * Formats the counters on one line.
+     *
+     * @return the summary.
+     */
+    public String toSummary() {
+        return String.format("%d frames, %d with drawing, %d cells touched (%.1f per drawn frame, max %d)",
+                frames, drawnFrames, totalCells, drawnFrames == 0 ? 0.0 : (double) totalCells / drawnFrames,
+                maxFrameCells);
+    }
+}
@@ -0,0 +1,152 @@
+package com.comp2042.replay;
+
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.InputEventListener;
+import com.comp2042.MoveEvent;
+import com.comp2042.ViewData;
+
+import java.io.IOException;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorator for an {@link InputEventListener} that records every event it
+ * forwards to a {@link ReplayWriter}.
+ * Gravity ticks (down events from the timer thread) are only counted; every
+ * other event is recorded with the number of ticks before it, and each game
+ * starts with the seed of its brick generator.
+ */
+public class RecordingInputListener implements InputEventListener {
+
+    private final InputEventListener delegate;
+    private final LongSupplier seedSource;
+    private final ReplayWriter writer;
+    private long tick;
+
+    /**
+     * Constructs a new RecordingInputListener and records the start of the
+     * current game.
+     *
+     * @param delegate   the listener that handles the events.
+     * @param seedSource supplies the brick generator seed of the current game.
+     * @param writer     the writer receiving the records.
+     */
+    public RecordingInputListener(InputEventListener delegate, LongSupplier seedSource, ReplayWriter writer) {
+        this.delegate = delegate;
+        this.seedSource = seedSource;
+        this.writer = writer;
+        writer.startGame(seedSource.getAsLong());
+    }
+
+    /**
+     * Records an event, or counts it if it is a gravity tick.
+     *
+     * @param event the event to record.
+     */
+    private void record(MoveEvent event) {
+        if (event.getEventType() == EventType.DOWN && event.getEventSource() == EventSource.THREAD) {
+            tick++;
+        } else {
+            writer.recordEvent(event.getEventType(), event.getEventSource(), tick);
+        }
+    }
+
+    /**
+     * Records and forwards a down event.
+     *
+     * @param event the move event.
+     * @return the result of the down movement.
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        record(event);
+        return delegate.onDownEvent(event);
+    }
+
+    /**
+     * Records and forwards a left event.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        record(event);
+        return delegate.onLeftEvent(event);
+    }
+
+    /**
+     * Records and forwards a right event.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        record(event);
+        return delegate.onRightEvent(event);
+    }
+
+    /**
+     * Records and forwards a rotate event.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        record(event);
+        return delegate.onRotateEvent(event);
+    }
+
+    /**
+     * Records and forwards a drop event.
+     *
+     * @param event the move event.
+     * @return the result of the drop movement.
+     */
+    @Override
+    public DownData onDropEvent(MoveEvent event) {
+        record(event);
+        return delegate.onDropEvent(event);
+    }
+
+    /**
+     * Records and forwards a hold event.
+     *
+     * @param event the move event.
+     * @return the updated view data.
+     */
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        record(event);
+        return delegate.onHoldEvent(event);
+    }
+
+    /**
+     * Ends the recorded game, starts the new game and records its seed.
+     */
+    @Override
+    public void createNewGame() {
+        writer.endGame(tick);
+        delegate.createNewGame();
+        tick = 0;
+        writer.startGame(seedSource.getAsLong());
+        writer.flush();
+    }
+
+    /**
+     * Ends the recorded game, stops the game and closes the replay file.
+     */
+    @Override
+    public void stopGame() {
+        writer.endGame(tick);
+        delegate.stopGame();
+        try {
+            writer.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
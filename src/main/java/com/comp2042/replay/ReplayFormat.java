@@ -0,0 +1,129 @@
+package com.comp2042.replay;
+
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and encoding helpers of the binary replay format.
+ * A replay file starts with {@link #MAGIC} and {@link #VERSION}, followed by
+ * records. Each record starts with a one byte code:
+ * <ul>
+ * <li>{@link #GAME_START} followed by the 8 byte brick generator seed.</li>
+ * <li>an event code (see {@link #eventCode(EventType, EventSource)}) followed
+ * by the number of gravity ticks since the previous record as a varint.</li>
+ * <li>{@link #GAME_END} followed by the remaining gravity ticks as a
+ * varint.</li>
+ * </ul>
+ * Gravity ticks are not stored as events of their own since they are implied
+ * by the tick counts, which keeps a typical game at a few KB.
+ */
+public final class ReplayFormat {
+
+    /**
+     * File signature, "TRPL" in ASCII.
+     */
+    public static final int MAGIC = 0x5452504C;
+
+    /**
+     * Current format version.
+     */
+    public static final byte VERSION = 1;
+
+    /**
+     * Record code starting a game.
+     */
+    public static final int GAME_START = 0x40;
+
+    /**
+     * Record code ending a game.
+     */
+    public static final int GAME_END = 0x41;
+
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ReplayFormat() {
+
+    }
+
+    /**
+     * Encodes the type and source of an event as a record code.
+     *
+     * @param type   the event type.
+     * @param source the event source.
+     * @return the record code.
+     */
+    public static int eventCode(EventType type, EventSource source) {
+        return type.ordinal() * SOURCES.length + source.ordinal();
+    }
+
+    /**
+     * Checks if a record code describes an input event.
+     *
+     * @param code the record code.
+     * @return true if the code is an event code.
+     */
+    public static boolean isEventCode(int code) {
+        return code >= 0 && code < TYPES.length * SOURCES.length;
+    }
+
+    /**
+     * Decodes the event type of an event code.
+     *
+     * @param code the event code.
+     * @return the event type.
+     */
+    public static EventType eventType(int code) {
+        return TYPES[code / SOURCES.length];
+    }
+
+    /**
+     * Decodes the event source of an event code.
+     *
+     * @param code the event code.
+     * @return the event source.
+     */
+    public static EventSource eventSource(int code) {
+        return SOURCES[code % SOURCES.length];
+    }
+
+    /**
+     * Writes a non-negative value as an unsigned LEB128 varint, using one byte
+     * per 7 bits.
+     *
+     * @param buffer the buffer to write to.
+     * @param value  the value to write.
+     */
+    public static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint.
+     *
+     * @param buffer the buffer to read from.
+     * @return the value read.
+     * @throws BufferUnderflowException if the varint is truncated.
+     */
+    public static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0 && shift < Long.SIZE);
+        return value;
+    }
+}
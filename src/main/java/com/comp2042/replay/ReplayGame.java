@@ -0,0 +1,88 @@
+package com.comp2042.replay;
+
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+
+/**
+ * One recorded game: the brick generator seed, the input events with the
+ * gravity tick each one happened at, and the tick the game ended at.
+ */
+public final class ReplayGame {
+
+    private final long seed;
+    private final byte[] codes;
+    private final long[] ticks;
+    private final long endTick;
+
+    /**
+     * Constructs a new ReplayGame.
+     *
+     * @param seed    the seed of the game's brick generator.
+     * @param codes   the event codes, see {@link ReplayFormat#eventCode}.
+     * @param ticks   the gravity tick of each event.
+     * @param endTick the gravity tick the game ended at.
+     */
+    ReplayGame(long seed, byte[] codes, long[] ticks, long endTick) {
+        this.seed = seed;
+        this.codes = codes;
+        this.ticks = ticks;
+        this.endTick = endTick;
+    }
+
+    /**
+     * Gets the seed of the game's brick generator.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of recorded input events.
+     *
+     * @return the event count.
+     */
+    public int getEventCount() {
+        return codes.length;
+    }
+
+    /**
+     * Gets the type of an event.
+     *
+     * @param index the index of the event.
+     * @return the event type.
+     */
+    public EventType getEventType(int index) {
+        return ReplayFormat.eventType(codes[index]);
+    }
+
+    /**
+     * Gets the source of an event.
+     *
+     * @param index the index of the event.
+     * @return the event source.
+     */
+    public EventSource getEventSource(int index) {
+        return ReplayFormat.eventSource(codes[index]);
+    }
+
+    /**
+     * Gets the number of gravity ticks that happened before an event.
+     *
+     * @param index the index of the event.
+     * @return the tick number.
+     */
+    public long getTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Gets the number of gravity ticks when the game ended.
+     *
+     * @return the final tick number.
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+}
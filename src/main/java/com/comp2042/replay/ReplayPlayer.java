@@ -0,0 +1,211 @@
+package com.comp2042.replay;
+
+import com.comp2042.Board;
+import com.comp2042.BoardFactory;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.GameListener;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Replays recorded games through the headless {@link GameEngine} as fast as
+ * possible.
+ * Gravity ticks are issued directly instead of being paced by a timeline, and
+ * nothing is rendered unless a {@link GameListener} is added. Each replay
+ * reports a hash of the final board and the score, so archived games can be
+ * replayed after an engine change to confirm identical outcomes and to measure
+ * the throughput of the full game logic.
+ */
+public class ReplayPlayer {
+
+    private final Function<BrickGenerator, Board> boardFactory;
+    private final List<GameListener> listeners = new ArrayList<>();
+
+    /**
+     * Creates a player using the board engine selected by
+     * {@link BoardFactory#create(BrickGenerator)}.
+     */
+    public ReplayPlayer() {
+        this(BoardFactory::create);
+    }
+
+    /**
+     * Creates a player using the given board engine.
+     *
+     * @param boardFactory creates a board taking bricks from the given
+     *                     generator.
+     */
+    public ReplayPlayer(Function<BrickGenerator, Board> boardFactory) {
+        this.boardFactory = boardFactory;
+    }
+
+    /**
+     * Adds a listener, e.g. a view, to every replayed game.
+     *
+     * @param listener the listener to add.
+     */
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Replays a game from its seed and inputs.
+     *
+     * @param game the recorded game.
+     * @return the final state of the game.
+     */
+    public ReplayResult play(ReplayGame game) {
+        long start = System.nanoTime();
+        GameEngine engine = new GameEngine(boardFactory.apply(new SeededBrickGenerator(game.getSeed())));
+        for (GameListener listener : listeners) {
+            engine.addListener(listener);
+        }
+        engine.start();
+
+        for (int i = 0; i < game.getEventCount() && !engine.isGameOver(); i++) {
+            tickUntil(engine, game.getTick(i));
+            if (engine.isGameOver()) {
+                break;
+            }
+            EventType type = game.getEventType(i);
+            if (type == EventType.DOWN && game.getEventSource(i) == EventSource.THREAD) {
+                engine.tick();
+            } else {
+                engine.apply(type);
+            }
+        }
+        tickUntil(engine, game.getEndTick());
+
+        return new ReplayResult(game.getSeed(), boardHash(engine.getBoard().getBoardMatrix()),
+                engine.getBoard().getScore().getValue(), engine.getLinesCleared(), engine.getPiecesPlaced(),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Issues gravity ticks until the engine reaches a tick number or the game
+     * ends.
+     *
+     * @param engine the engine running the game.
+     * @param tick   the tick number to reach.
+     */
+    private static void tickUntil(GameEngine engine, long tick) {
+        while (engine.getTicks() < tick && !engine.isGameOver()) {
+            engine.tick();
+        }
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash of a board matrix.
+     *
+     * @param matrix the board matrix.
+     * @return the hash.
+     */
+    public static long boardHash(int[][] matrix) {
+        long hash = 0xCBF29CE484222325L;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                hash ^= cell;
+                hash *= 0x100000001B3L;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Collects the replay files named on the command line, expanding
+     * directories to the replay files they contain.
+     *
+     * @param args the file and directory names.
+     * @return the replay files in a stable order.
+     * @throws IOException if a directory cannot be listed.
+     */
+    private static List<Path> collectFiles(List<String> args) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            Path path = Paths.get(arg);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> stream = Files.list(path)) {
+                    files.addAll(stream.filter(p -> p.toString().endsWith(".trpl")).sorted()
+                            .collect(Collectors.toList()));
+                }
+            } else {
+                files.add(path);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Command-line entry point: replays every game of the given replay files
+     * or directories and prints each outcome and the total throughput.
+     * With {@code --baseline <file>} the outcomes are compared to the baseline
+     * file, or saved to it if it does not exist yet.
+     *
+     * @param args optional baseline option followed by replay files or
+     *             directories.
+     * @throws IOException if a replay or the baseline cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        Path baseline = null;
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--baseline".equals(args[i]) && i + 1 < args.length) {
+                baseline = Paths.get(args[++i]);
+            } else {
+                inputs.add(args[i]);
+            }
+        }
+
+        ReplayPlayer player = new ReplayPlayer();
+        List<String> outcomes = new ArrayList<>();
+        long totalNanos = 0;
+        long totalPieces = 0;
+        for (Path file : collectFiles(inputs)) {
+            List<ReplayGame> games = ReplayReader.read(file);
+            for (int i = 0; i < games.size(); i++) {
+                ReplayResult result = player.play(games.get(i));
+                outcomes.add(result.toOutcomeString());
+                totalNanos += result.getElapsedNanos();
+                totalPieces += result.getPieces();
+                System.out.println(file.getFileName() + "#" + i + " " + result.toOutcomeString() + " "
+                        + result.getElapsedNanos() + "ns");
+            }
+        }
+        System.out.printf("Replayed %d games, %d pieces in %.1f ms (%.0f pieces/s)%n", outcomes.size(),
+                totalPieces, totalNanos / 1e6, totalNanos == 0 ? 0 : totalPieces * 1e9 / totalNanos);
+
+        if (baseline == null) {
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            Files.write(baseline, outcomes);
+            System.out.println("Baseline written to " + baseline);
+            return;
+        }
+        List<String> expected = Files.readAllLines(baseline);
+        int mismatches = Math.abs(expected.size() - outcomes.size());
+        for (int i = 0; i < Math.min(expected.size(), outcomes.size()); i++) {
+            if (!expected.get(i).equals(outcomes.get(i))) {
+                mismatches++;
+                System.out.println("Mismatch in game " + i + ": expected " + expected.get(i) + ", got "
+                        + outcomes.get(i));
+            }
+        }
+        System.out.println(mismatches == 0 ? "All games match the baseline" : mismatches + " games differ");
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads replay files written by {@link ReplayWriter}.
+ * The file is memory-mapped and decoded in a single pass. A game cut off by a
+ * crash is kept up to its last complete record.
+ */
+public final class ReplayReader {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ReplayReader() {
+
+    }
+
+    /**
+     * Reads every game of a replay file.
+     *
+     * @param file the replay file.
+     * @return the recorded games in file order.
+     * @throws IOException if the file cannot be read or is not a replay file.
+     */
+    public static List<ReplayGame> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer, file.toString());
+        }
+    }
+
+    /**
+     * Decodes every game of a replay buffer.
+     *
+     * @param buffer the replay data.
+     * @param name   the name of the source, for error messages.
+     * @return the recorded games in order.
+     * @throws IOException if the data is not a replay.
+     */
+    static List<ReplayGame> read(ByteBuffer buffer, String name) throws IOException {
+        if (buffer.remaining() < 5 || buffer.getInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not a replay file: " + name);
+        }
+        byte version = buffer.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported replay version " + version + ": " + name);
+        }
+
+        List<ReplayGame> games = new ArrayList<>();
+        GameBuilder current = null;
+        try {
+            while (buffer.hasRemaining()) {
+                int code = buffer.get() & 0xFF;
+                if (code == ReplayFormat.GAME_START) {
+                    if (current != null) {
+                        games.add(current.build(current.tick));
+                    }
+                    current = new GameBuilder(buffer.getLong());
+                } else if (current == null) {
+                    throw new IOException("Record outside of a game in " + name);
+                } else if (code == ReplayFormat.GAME_END) {
+                    long endTick = current.tick + ReplayFormat.getVarLong(buffer);
+                    games.add(current.build(endTick));
+                    current = null;
+                } else if (ReplayFormat.isEventCode(code)) {
+                    current.add(code, ReplayFormat.getVarLong(buffer));
+                } else {
+                    throw new IOException("Unknown record code " + code + " in " + name);
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            // Truncated last record, keep what was complete
+        }
+        if (current != null) {
+            games.add(current.build(current.tick));
+        }
+        return games;
+    }
+
+    /**
+     * Collects the events of a game while it is being decoded.
+     */
+    private static final class GameBuilder {
+        private final long seed;
+        private byte[] codes = new byte[256];
+        private long[] ticks = new long[256];
+        private int count;
+        private long tick;
+
+        /**
+         * Starts a new game.
+         *
+         * @param seed the seed of the game's brick generator.
+         */
+        GameBuilder(long seed) {
+            this.seed = seed;
+        }
+
+        /**
+         * Adds an event.
+         *
+         * @param code  the event code.
+         * @param delta the gravity ticks since the previous record.
+         */
+        void add(int code, long delta) {
+            if (count == codes.length) {
+                codes = Arrays.copyOf(codes, count * 2);
+                ticks = Arrays.copyOf(ticks, count * 2);
+            }
+            tick += delta;
+            codes[count] = (byte) code;
+            ticks[count] = tick;
+            count++;
+        }
+
+        /**
+         * Creates the finished game.
+         *
+         * @param endTick the gravity tick the game ended at.
+         * @return the game.
+         */
+        ReplayGame build(long endTick) {
+            return new ReplayGame(seed, Arrays.copyOf(codes, count), Arrays.copyOf(ticks, count), endTick);
+        }
+    }
+}
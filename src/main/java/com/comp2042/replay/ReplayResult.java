@@ -0,0 +1,97 @@
+package com.comp2042.replay;
+
+/**
+ * Final state of a replayed game.
+ */
+public final class ReplayResult {
+
+    private final long seed;
+    private final long boardHash;
+    private final int score;
+    private final int lines;
+    private final int pieces;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new ReplayResult.
+     *
+     * @param seed         the seed of the game.
+     * @param boardHash    the hash of the final board matrix.
+     * @param score        the final score.
+     * @param lines        the number of rows cleared.
+     * @param pieces       the number of bricks locked.
+     * @param elapsedNanos the wall-clock time the replay took.
+     */
+    public ReplayResult(long seed, long boardHash, int score, int lines, int pieces, long elapsedNanos) {
+        this.seed = seed;
+        this.boardHash = boardHash;
+        this.score = score;
+        this.lines = lines;
+        this.pieces = pieces;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the seed of the game.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the hash of the final board matrix.
+     *
+     * @return the board hash.
+     */
+    public long getBoardHash() {
+        return boardHash;
+    }
+
+    /**
+     * Gets the final score.
+     *
+     * @return the score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of rows cleared.
+     *
+     * @return the line count.
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the number of bricks locked.
+     *
+     * @return the piece count.
+     */
+    public int getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Gets the wall-clock time the replay took.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Formats the outcome of the game, without the timing, so that results of
+     * two runs can be compared as text.
+     *
+     * @return the seed, board hash, score, lines and pieces.
+     */
+    public String toOutcomeString() {
+        return String.format("%d %016x %d %d %d", seed, boardHash, score, lines, pieces);
+    }
+}
@@ -0,0 +1,164 @@
+package com.comp2042.replay;
+
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes replay records in the {@link ReplayFormat} to a file.
+ * Records are encoded into a small heap buffer on the calling thread, which
+ * only costs a few byte writes. Full buffers are handed to a single background
+ * thread that appends them to the file through a {@link FileChannel}, so the
+ * caller never waits for the disk. Once the writer is closed it rejects
+ * further records.
+ */
+public class ReplayWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 4096;
+    private static final int MAX_RECORD_SIZE = 16;
+
+    private final FileChannel channel;
+    private final ExecutorService executor;
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long lastTick;
+    private volatile IOException failure;
+    private boolean closed;
+
+    /**
+     * Opens a replay file for appending, writing the file header if the file
+     * is new.
+     *
+     * @param file the replay file.
+     * @throws IOException if the file cannot be opened.
+     */
+    public ReplayWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (channel.size() == 0) {
+            buffer.putInt(ReplayFormat.MAGIC);
+            buffer.put(ReplayFormat.VERSION);
+        }
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "replay-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Records the start of a game.
+     *
+     * @param seed the seed of the game's brick generator.
+     * @throws IllegalStateException if the writer has been closed.
+     */
+    public void startGame(long seed) {
+        ensureCapacity();
+        buffer.put((byte) ReplayFormat.GAME_START);
+        buffer.putLong(seed);
+        lastTick = 0;
+    }
+
+    /**
+     * Records an input event.
+     *
+     * @param type   the event type.
+     * @param source the event source.
+     * @param tick   the number of gravity ticks since the game started.
+     * @throws IllegalStateException if the writer has been closed.
+     */
+    public void recordEvent(EventType type, EventSource source, long tick) {
+        ensureCapacity();
+        buffer.put((byte) ReplayFormat.eventCode(type, source));
+        ReplayFormat.putVarLong(buffer, tick - lastTick);
+        lastTick = tick;
+    }
+
+    /**
+     * Records the end of a game.
+     *
+     * @param tick the number of gravity ticks when the game ended.
+     * @throws IllegalStateException if the writer has been closed.
+     */
+    public void endGame(long tick) {
+        ensureCapacity();
+        buffer.put((byte) ReplayFormat.GAME_END);
+        ReplayFormat.putVarLong(buffer, tick - lastTick);
+        lastTick = tick;
+    }
+
+    /**
+     * Hands the buffer to the background thread if the next record may not fit.
+     *
+     * @throws IllegalStateException if the writer has been closed.
+     */
+    private void ensureCapacity() {
+        if (closed) {
+            throw new IllegalStateException("Replay writer is closed");
+        }
+        if (buffer.remaining() < MAX_RECORD_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Hands the buffered records to the background thread for writing.
+     */
+    public void flush() {
+        if (buffer.position() == 0 || closed) {
+            return;
+        }
+        ByteBuffer full = buffer.flip();
+        buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        executor.execute(() -> write(full));
+    }
+
+    /**
+     * Appends a buffer to the file. Runs on the background thread.
+     *
+     * @param data the records to write.
+     */
+    private void write(ByteBuffer data) {
+        try {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * Writes the remaining records, waits for the background thread and closes
+     * the file.
+     *
+     * @throws IOException if writing any record failed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
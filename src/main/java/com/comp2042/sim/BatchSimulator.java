@@ -0,0 +1,179 @@
+package com.comp2042.sim;
+
+import com.comp2042.Board;
+import com.comp2042.BoardFactory;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.ai.AutoPlayer;
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.HeuristicEvaluator;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs many independent headless games in parallel on a {@link ForkJoinPool}
+ * and aggregates their statistics.
+ * Each game gets its own board and input policy, both created from a seed
+ * derived from the run's base seed and the game index, so a run with the same
+ * base seed replays the same games. Gravity is simulated on a
+ * virtual clock: every input takes a fixed amount of time and the engine ticks
+ * whenever its level's gravity delay has elapsed, so level speeds from
+ * {@code LevelConfig} limit how many inputs fit before a brick falls.
+ */
+public class BatchSimulator {
+
+    /**
+     * Default simulated time between two player inputs.
+     */
+    public static final double DEFAULT_INPUT_MILLIS = 50;
+
+    /**
+     * Default number of bricks after which a game is stopped.
+     */
+    public static final int DEFAULT_MAX_PIECES = 10_000;
+
+    private final LongFunction<Board> boardFactory;
+    private final LongFunction<InputPolicy> policyFactory;
+    private final int parallelism;
+    private double inputMillis = DEFAULT_INPUT_MILLIS;
+    private int maxPieces = DEFAULT_MAX_PIECES;
+
+    /**
+     * Creates a simulator using every available core.
+     *
+     * @param boardFactory  creates a fresh board for each game from its seed.
+     * @param policyFactory creates a fresh input policy for each game from its
+     *                      seed.
+     */
+    public BatchSimulator(LongFunction<Board> boardFactory, LongFunction<InputPolicy> policyFactory) {
+        this(boardFactory, policyFactory, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a simulator with a fixed number of worker threads.
+     *
+     * @param boardFactory  creates a fresh board for each game from its seed.
+     * @param policyFactory creates a fresh input policy for each game from its
+     *                      seed.
+     * @param parallelism   the number of worker threads.
+     */
+    public BatchSimulator(LongFunction<Board> boardFactory, LongFunction<InputPolicy> policyFactory, int parallelism) {
+        this.boardFactory = boardFactory;
+        this.policyFactory = policyFactory;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sets the simulated time between two player inputs.
+     *
+     * @param inputMillis the input interval in milliseconds.
+     */
+    public void setInputMillis(double inputMillis) {
+        this.inputMillis = inputMillis;
+    }
+
+    /**
+     * Sets the number of bricks after which a game is stopped.
+     *
+     * @param maxPieces the piece limit per game.
+     */
+    public void setMaxPieces(int maxPieces) {
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Runs a batch of games in parallel with a random base seed and aggregates
+     * the results.
+     *
+     * @param games the number of games to simulate.
+     * @return the aggregated report.
+     */
+    public SimulationReport run(int games) {
+        return run(games, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Runs a batch of games in parallel and aggregates the results.
+     * Game {@code i} is seeded with
+     * {@link SeededBrickGenerator#deriveSeed(long, long)} of the base seed and
+     * {@code i}, independent of which worker thread plays it.
+     *
+     * @param games    the number of games to simulate.
+     * @param baseSeed the seed of the whole run.
+     * @return the aggregated report.
+     */
+    public SimulationReport run(int games, long baseSeed) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            List<GameResult> results = pool.submit(() -> IntStream.range(0, games)
+                    .parallel()
+                    .mapToObj(i -> playGame(SeededBrickGenerator.deriveSeed(baseSeed, i)))
+                    .collect(Collectors.toList())).join();
+            return new SimulationReport(results, System.nanoTime() - start);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a single game to the end or to the piece limit.
+     *
+     * @param seed the seed of the game.
+     * @return the result of the game.
+     */
+    public GameResult playGame(long seed) {
+        long start = System.nanoTime();
+        GameEngine engine = new GameEngine(boardFactory.apply(seed));
+        InputPolicy policy = policyFactory.apply(seed);
+        engine.start();
+
+        double clock = 0;
+        double nextTick = engine.getGravityMillis();
+        while (!engine.isGameOver() && engine.getPiecesPlaced() < maxPieces) {
+            EventType input = policy.nextInput(engine);
+            if (input != null) {
+                engine.apply(input);
+                clock += inputMillis;
+            } else {
+                clock = nextTick;
+            }
+            while (clock >= nextTick && !engine.isGameOver()) {
+                engine.tick();
+                nextTick += engine.getGravityMillis();
+            }
+        }
+        return new GameResult(engine.getBoard().getScore().getValue(), engine.getLinesCleared(),
+                engine.getPiecesPlaced(), engine.getTicks(), System.nanoTime() - start, engine.isGameOver());
+    }
+
+    /**
+     * Command-line entry point: runs a batch of games and prints the report.
+     * The policy is {@code random} (the default) or {@code beam}, which plays
+     * a single-threaded {@link BeamSearch} per game.
+     *
+     * @param args optional game count, worker count, base seed and policy.
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long baseSeed = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+        boolean beam = args.length > 3 && args[3].equals("beam");
+        BatchSimulator simulator = new BatchSimulator(
+                seed -> BoardFactory.create(new SeededBrickGenerator(seed)),
+                seed -> beam
+                        ? new BeamSearchPolicy(new BeamSearch(new HeuristicEvaluator(), AutoPlayer.DEFAULT_BEAM_WIDTH,
+                                AutoPlayer.DEFAULT_DEPTH, null), AutoPlayer.DEFAULT_DEPTH,
+                                AutoPlayer.DEFAULT_BUDGET_NANOS)
+                        : RandomInputPolicy.forGame(seed),
+                workers);
+        System.out.println("Base seed: " + baseSeed);
+        System.out.println(simulator.run(games, baseSeed));
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042.sim;
+
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.Plan;
+import com.comp2042.ai.PlacementEnumerator;
+import com.comp2042.ai.Placements;
+import com.comp2042.ai.SearchRoot;
+
+/**
+ * Input policy that plays the moves found by a {@link BeamSearch}.
+ * The search runs on the simulating thread whenever a new brick appears.
+ * The plan is then followed one input at a time: hold if planned, then the
+ * first step of the path to the chosen placement, which is recomputed for
+ * every input so gravity moving the brick does not throw it off course.
+ */
+public class BeamSearchPolicy implements InputPolicy {
+
+    private final BeamSearch search;
+    private final int depth;
+    private final long budgetNanos;
+    private final PlacementEnumerator enumerator = new PlacementEnumerator();
+    private int plannedPiece = -1;
+    private Plan plan;
+    private boolean held;
+
+    /**
+     * Constructs a new BeamSearchPolicy.
+     *
+     * @param search      the search choosing the moves.
+     * @param depth       the number of bricks the search looks ahead.
+     * @param budgetNanos the time a search may take per brick.
+     */
+    public BeamSearchPolicy(BeamSearch search, int depth, long budgetNanos) {
+        this.search = search;
+        this.depth = depth;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Chooses the next input, searching when a new brick has appeared.
+     *
+     * @param engine the engine running the game.
+     * @return the next input of the plan, or null if no placement was found.
+     */
+    @Override
+    public EventType nextInput(GameEngine engine) {
+        if (plannedPiece != engine.getPiecesPlaced()) {
+            plannedPiece = engine.getPiecesPlaced();
+            plan = search.search(SearchRoot.of(engine.getBoard(), depth), System.nanoTime() + budgetNanos);
+            held = false;
+        }
+        if (plan == null) {
+            return null;
+        }
+        if (plan.isHold() && !held) {
+            held = true;
+            return EventType.HOLD;
+        }
+        Placements placements = enumerator.enumerate(engine.getBoard());
+        int target = placements.find(plan.getRotation(), plan.getX(), plan.getY());
+        return target < 0 ? EventType.DROP : placements.getPathStep(target, 0);
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042.sim;
+
+/**
+ * Data class holding the outcome of one simulated game.
+ */
+public final class GameResult {
+
+    private final int score;
+    private final int lines;
+    private final int pieces;
+    private final long ticks;
+    private final long elapsedNanos;
+    private final boolean toppedOut;
+
+    /**
+     * Constructs a new GameResult.
+     *
+     * @param score        the final score.
+     * @param lines        the number of rows cleared.
+     * @param pieces       the number of bricks locked.
+     * @param ticks        the number of gravity ticks played.
+     * @param elapsedNanos the wall-clock time spent simulating the game.
+     * @param toppedOut    true if the game ended by topping out, false if it
+     *                     hit the piece limit.
+     */
+    public GameResult(int score, int lines, int pieces, long ticks, long elapsedNanos, boolean toppedOut) {
+        this.score = score;
+        this.lines = lines;
+        this.pieces = pieces;
+        this.ticks = ticks;
+        this.elapsedNanos = elapsedNanos;
+        this.toppedOut = toppedOut;
+    }
+
+    /**
+     * Gets the final score.
+     *
+     * @return the score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of rows cleared.
+     *
+     * @return the line count.
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the number of bricks locked, which is the game length.
+     *
+     * @return the piece count.
+     */
+    public int getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Gets the number of gravity ticks played.
+     *
+     * @return the tick count.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the wall-clock time spent simulating the game.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Checks whether the game ended by topping out.
+     *
+     * @return true if the game was lost, false if it hit the piece limit.
+     */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+}
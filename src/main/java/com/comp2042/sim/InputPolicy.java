@@ -0,0 +1,20 @@
+package com.comp2042.sim;
+
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+
+/**
+ * Strategy deciding which input a simulated player sends next.
+ * Each simulated game gets its own policy instance, so implementations may
+ * keep per-game state without synchronization.
+ */
+public interface InputPolicy {
+
+    /**
+     * Chooses the next input for the current game state.
+     *
+     * @param engine the engine running the game.
+     * @return the event to apply, or null to wait for the next gravity tick.
+     */
+    EventType nextInput(GameEngine engine);
+}
@@ -0,0 +1,63 @@
+package com.comp2042.sim;
+
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Input policy that presses random keys.
+ * Sideways moves and rotations are favored so bricks spread over the board
+ * before they are dropped.
+ */
+public class RandomInputPolicy implements InputPolicy {
+
+    private static final EventType[] INPUTS = {
+            EventType.LEFT, EventType.LEFT, EventType.LEFT,
+            EventType.RIGHT, EventType.RIGHT, EventType.RIGHT,
+            EventType.ROTATE, EventType.ROTATE,
+            EventType.DOWN, EventType.DROP, EventType.HOLD
+    };
+
+    private final SplittableRandom random;
+
+    /**
+     * Creates a random policy with an unpredictable seed.
+     */
+    public RandomInputPolicy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a random policy using the given random source.
+     *
+     * @param random the random number source.
+     */
+    public RandomInputPolicy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Creates a random policy for the game with the given seed. The inputs
+     * are drawn from a stream derived from the seed, so they are unrelated to
+     * the bricks a {@link SeededBrickGenerator} deals for the same seed.
+     *
+     * @param seed the seed of the game.
+     * @return the policy.
+     */
+    public static RandomInputPolicy forGame(long seed) {
+        return new RandomInputPolicy(new SplittableRandom(SeededBrickGenerator.deriveSeed(seed, -1)));
+    }
+
+    /**
+     * Picks a random input.
+     *
+     * @param engine the engine running the game.
+     * @return a random event type.
+     */
+    @Override
+    public EventType nextInput(GameEngine engine) {
+        return INPUTS[random.nextInt(INPUTS.length)];
+    }
+}
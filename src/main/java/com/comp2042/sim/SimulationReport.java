@@ -0,0 +1,176 @@
+package com.comp2042.sim;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aggregate statistics over a batch of simulated games.
+ */
+public final class SimulationReport {
+
+    private final int games;
+    private final long totalLines;
+    private final long totalPieces;
+    private final int toppedOut;
+    private final long wallNanos;
+    private final int[] sortedScores;
+    private final int[] sortedLengths;
+
+    /**
+     * Builds a report from individual game results.
+     *
+     * @param results   the results of every simulated game.
+     * @param wallNanos the wall-clock time for the whole batch.
+     */
+    public SimulationReport(List<GameResult> results, long wallNanos) {
+        this.games = results.size();
+        this.wallNanos = wallNanos;
+        this.sortedScores = new int[games];
+        this.sortedLengths = new int[games];
+        long lines = 0;
+        long pieces = 0;
+        int lost = 0;
+        for (int i = 0; i < games; i++) {
+            GameResult result = results.get(i);
+            sortedScores[i] = result.getScore();
+            sortedLengths[i] = result.getPieces();
+            lines += result.getLines();
+            pieces += result.getPieces();
+            if (result.isToppedOut()) {
+                lost++;
+            }
+        }
+        Arrays.sort(sortedScores);
+        Arrays.sort(sortedLengths);
+        this.totalLines = lines;
+        this.totalPieces = pieces;
+        this.toppedOut = lost;
+    }
+
+    /**
+     * Gets the value at a percentile of a sorted array (nearest rank).
+     *
+     * @param sorted     the sorted values.
+     * @param percentile the percentile, between 0 and 100.
+     * @return the value at that percentile, or 0 for an empty array.
+     */
+    private static int percentile(int[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    /**
+     * Gets the number of simulated games.
+     *
+     * @return the game count.
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the total rows cleared over all games.
+     *
+     * @return the line count.
+     */
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    /**
+     * Gets the total bricks locked over all games.
+     *
+     * @return the piece count.
+     */
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    /**
+     * Gets the mean rows cleared per game.
+     *
+     * @return the mean line count.
+     */
+    public double getMeanLines() {
+        return games == 0 ? 0 : (double) totalLines / games;
+    }
+
+    /**
+     * Gets the mean final score.
+     *
+     * @return the mean score.
+     */
+    public double getMeanScore() {
+        return games == 0 ? 0 : Arrays.stream(sortedScores).asLongStream().sum() / (double) games;
+    }
+
+    /**
+     * Gets a percentile of the final score distribution.
+     *
+     * @param percentile the percentile, between 0 and 100.
+     * @return the score at that percentile.
+     */
+    public int getScorePercentile(double percentile) {
+        return percentile(sortedScores, percentile);
+    }
+
+    /**
+     * Gets a percentile of the game length distribution, in bricks locked.
+     *
+     * @param percentile the percentile, between 0 and 100.
+     * @return the game length at that percentile.
+     */
+    public int getLengthPercentile(double percentile) {
+        return percentile(sortedLengths, percentile);
+    }
+
+    /**
+     * Gets the number of games that ended by topping out.
+     *
+     * @return the count of lost games.
+     */
+    public int getToppedOut() {
+        return toppedOut;
+    }
+
+    /**
+     * Gets the throughput of the whole batch across all workers.
+     *
+     * @return bricks locked per wall-clock second.
+     */
+    public double getPiecesPerSecond() {
+        return wallNanos == 0 ? 0 : totalPieces * 1_000_000_000.0 / wallNanos;
+    }
+
+    /**
+     * Gets the wall-clock time for the whole batch.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * Formats the report as a multi-line summary.
+     *
+     * @return the summary text.
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "games=%d (topped out %d) wall=%.2fs pieces/s=%.0f%n"
+                        + "lines: total=%d mean=%.2f%n"
+                        + "score: mean=%.1f min=%d p50=%d p90=%d p99=%d max=%d%n"
+                        + "length (pieces): p50=%d p90=%d p99=%d max=%d",
+                games, toppedOut, wallNanos / 1e9, getPiecesPerSecond(),
+                totalLines, getMeanLines(),
+                getMeanScore(), getScorePercentile(0), getScorePercentile(50), getScorePercentile(90),
+                getScorePercentile(99), getScorePercentile(100),
+                getLengthPercentile(50), getLengthPercentile(90), getLengthPercentile(99),
+                getLengthPercentile(100));
+    }
+}
@@ -0,0 +1,209 @@
+package com.comp2042.sim;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable state of a {@link WeightTuner} run between two generations: the
+ * next generation's index and population, and the best candidate of every
+ * finished generation.
+ * Checkpoints are stored as plain text, one record per line, with doubles
+ * written in their exact round-trip form so a resumed run continues exactly
+ * where it stopped:
+ * <pre>
+ * generation 3
+ * best &lt;fitness&gt; &lt;weight&gt;...
+ * candidate &lt;weight&gt;...
+ * </pre>
+ */
+public final class TunerCheckpoint {
+
+    private static final String HEADER = "# Tetris weight tuner checkpoint";
+
+    private final int generation;
+    private final double[][] population;
+    private final List<double[]> history;
+
+    /**
+     * Constructs a new TunerCheckpoint.
+     *
+     * @param generation the index of the next generation to evaluate.
+     * @param population the weights of each candidate of that generation.
+     * @param history    the fitness followed by the weights of the best
+     *                   candidate of each finished generation.
+     */
+    public TunerCheckpoint(int generation, double[][] population, List<double[]> history) {
+        this.generation = generation;
+        this.population = new double[population.length][];
+        for (int i = 0; i < population.length; i++) {
+            this.population[i] = population[i].clone();
+        }
+        List<double[]> copy = new ArrayList<>(history.size());
+        for (double[] entry : history) {
+            copy.add(entry.clone());
+        }
+        this.history = Collections.unmodifiableList(copy);
+    }
+
+    /**
+     * Reads a checkpoint from a file.
+     *
+     * @param file the checkpoint file.
+     * @return the checkpoint.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public static TunerCheckpoint load(Path file) throws IOException {
+        int generation = -1;
+        List<double[]> population = new ArrayList<>();
+        List<double[]> history = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.trim().split("\\s+");
+                switch (parts[0]) {
+                    case "generation":
+                        generation = Integer.parseInt(parts[1]);
+                        break;
+                    case "best":
+                        history.add(parseValues(parts));
+                        break;
+                    case "candidate":
+                        population.add(parseValues(parts));
+                        break;
+                    default:
+                        throw new IOException("Unknown checkpoint record in " + file + ": " + line);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed checkpoint " + file, e);
+        }
+        if (generation < 0 || population.isEmpty()) {
+            throw new IOException("Incomplete checkpoint " + file);
+        }
+        return new TunerCheckpoint(generation, population.toArray(new double[0][]), history);
+    }
+
+    /**
+     * Parses the numbers following the record name.
+     *
+     * @param parts the fields of a record.
+     * @return the values.
+     */
+    private static double[] parseValues(String[] parts) {
+        double[] values = new double[parts.length - 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Double.parseDouble(parts[i + 1]);
+        }
+        return values;
+    }
+
+    /**
+     * Writes the checkpoint to a file. The data is written to a temporary
+     * file first and moved over the old checkpoint, so a crash while saving
+     * leaves the previous checkpoint intact.
+     *
+     * @param file the checkpoint file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        if (absolute.getParent() != null) {
+            Files.createDirectories(absolute.getParent());
+        }
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp)) {
+            writer.write(HEADER);
+            writer.newLine();
+            writer.write("generation " + generation);
+            writer.newLine();
+            for (double[] entry : history) {
+                writeRecord(writer, "best", entry);
+            }
+            for (double[] candidate : population) {
+                writeRecord(writer, "candidate", candidate);
+            }
+        }
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes one record line.
+     *
+     * @param writer the writer.
+     * @param name   the record name.
+     * @param values the values of the record.
+     * @throws IOException if writing fails.
+     */
+    private static void writeRecord(BufferedWriter writer, String name, double[] values) throws IOException {
+        writer.write(name);
+        for (double value : values) {
+            writer.write(' ');
+            writer.write(Double.toString(value));
+        }
+        writer.newLine();
+    }
+
+    /**
+     * Gets the index of the next generation to evaluate.
+     *
+     * @return the generation index.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the number of candidates per generation.
+     *
+     * @return the population size.
+     */
+    public int getPopulationSize() {
+        return population.length;
+    }
+
+    /**
+     * Gets the weights of one candidate of the next generation.
+     *
+     * @param index the candidate index.
+     * @return a copy of the weights.
+     */
+    public double[] getCandidate(int index) {
+        return population[index].clone();
+    }
+
+    /**
+     * Gets the best candidate of every finished generation.
+     *
+     * @return the fitness followed by the weights, one entry per generation.
+     */
+    public List<double[]> getHistory() {
+        return history;
+    }
+
+    /**
+     * Formats the best candidate of every finished generation as a table.
+     *
+     * @return the summary.
+     */
+    public String toSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-10s %10s  %s%n", "Generation", "Fitness", "Weights"));
+        for (int i = 0; i < history.size(); i++) {
+            double[] entry = history.get(i);
+            sb.append(String.format("%-10d %10.2f  %s%n", i, entry[0],
+                    Arrays.toString(Arrays.copyOfRange(entry, 1, entry.length))));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,280 @@
+package com.comp2042.sim;
+
+import com.comp2042.BoardFactory;
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.HeuristicEvaluator;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Genetic tuner for the weights of the {@link HeuristicEvaluator}.
+ * Every generation, each candidate weight vector plays the same fixed set of
+ * seeded games, with the 7-bag rules and the {@code LevelConfig} gravity
+ * simulated by {@link BatchSimulator}, and its fitness is the mean score.
+ * Score rewards multi-row clears, so it still separates candidates once
+ * they all survive to the piece limit, where the rows cleared are capped.
+ * All games of a generation are spread over one {@link ForkJoinPool}
+ * together, so every core stays busy until the last game. The best quarter
+ * of the population survives; the rest is replaced by children made by
+ * fitness-weighted crossover of two survivors and Gaussian mutation. Weights
+ * are normalized to unit length, since scaling them does not change which
+ * placement the evaluator prefers.
+ * After each generation the state is saved to a {@link TunerCheckpoint}, and
+ * a run started with an existing checkpoint continues from it. Random choices
+ * are seeded per generation, so a resumed run evolves exactly as an
+ * uninterrupted one would.
+ */
+public class WeightTuner {
+
+    /**
+     * Default number of candidates per generation.
+     */
+    public static final int DEFAULT_POPULATION = 24;
+
+    /**
+     * Default number of games each candidate plays per generation.
+     */
+    public static final int DEFAULT_GAMES = 16;
+
+    /**
+     * Default number of bricks after which a tuning game is stopped.
+     */
+    public static final int DEFAULT_MAX_PIECES = 500;
+
+    private static final int SURVIVOR_FRACTION = 4;
+    private static final double MUTATION_RATE = 0.3;
+    private static final double MUTATION_SCALE = 0.2;
+    private static final long SEARCH_BUDGET_NANOS = 1_000_000_000L;
+
+    private final int populationSize;
+    private final int games;
+    private final int maxPieces;
+    private final long seed;
+    private final int parallelism;
+
+    /**
+     * Constructs a new WeightTuner.
+     *
+     * @param populationSize the number of candidates per generation.
+     * @param games          the number of games each candidate plays.
+     * @param maxPieces      the number of bricks after which a game is
+     *                       stopped.
+     * @param seed           the seed of the game set and the evolution.
+     * @param parallelism    the number of worker threads.
+     */
+    public WeightTuner(int populationSize, int games, int maxPieces, long seed, int parallelism) {
+        this.populationSize = populationSize;
+        this.games = games;
+        this.maxPieces = maxPieces;
+        this.seed = seed;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Evolves the weights up to a number of generations, resuming from the
+     * checkpoint file if it exists and saving it after every generation.
+     *
+     * @param generations the total number of generations to reach.
+     * @param checkpoint  the checkpoint file.
+     * @param out         the stream receiving one summary line per
+     *                    generation.
+     * @return the checkpoint after the last generation.
+     * @throws IOException if the checkpoint cannot be read or written.
+     */
+    public TunerCheckpoint run(int generations, Path checkpoint, PrintStream out) throws IOException {
+        TunerCheckpoint state;
+        if (Files.exists(checkpoint)) {
+            state = TunerCheckpoint.load(checkpoint);
+            out.println("Resuming at generation " + state.getGeneration() + " from " + checkpoint);
+        } else {
+            state = new TunerCheckpoint(0, initialPopulation(), new ArrayList<>());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            while (state.getGeneration() < generations) {
+                long start = System.nanoTime();
+                double[][] population = new double[state.getPopulationSize()][];
+                for (int i = 0; i < population.length; i++) {
+                    population[i] = state.getCandidate(i);
+                }
+                double[] fitness = evaluate(population, pool);
+
+                Integer[] order = rank(fitness);
+                double[] best = new double[HeuristicEvaluator.FEATURE_COUNT + 1];
+                best[0] = fitness[order[0]];
+                System.arraycopy(population[order[0]], 0, best, 1, HeuristicEvaluator.FEATURE_COUNT);
+                List<double[]> history = new ArrayList<>(state.getHistory());
+                history.add(best);
+
+                out.printf("Generation %d: best %.1f, mean %.1f points/game, %d games in %.1f s, weights %s%n",
+                        state.getGeneration(), best[0], Arrays.stream(fitness).average().orElse(0),
+                        population.length * games, (System.nanoTime() - start) / 1e9,
+                        Arrays.toString(population[order[0]]));
+
+                state = new TunerCheckpoint(state.getGeneration() + 1,
+                        nextPopulation(population, fitness, order, state.getGeneration()), history);
+                state.save(checkpoint);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return state;
+    }
+
+    /**
+     * Creates the first generation: the default weights and random
+     * variations of them.
+     *
+     * @return the initial population.
+     */
+    private double[][] initialPopulation() {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] defaults = normalize(HeuristicEvaluator.getDefaultWeights());
+        double[][] population = new double[populationSize][];
+        population[0] = defaults;
+        for (int i = 1; i < populationSize; i++) {
+            double[] weights = defaults.clone();
+            for (int f = 0; f < weights.length; f++) {
+                weights[f] += random.nextGaussian() * 0.5;
+            }
+            population[i] = normalize(weights);
+        }
+        return population;
+    }
+
+    /**
+     * Scores every candidate by the mean score over the game set.
+     * Games of all candidates run as one parallel batch.
+     *
+     * @param population the candidates' weights.
+     * @param pool       the pool running the games.
+     * @return the fitness of each candidate.
+     */
+    double[] evaluate(double[][] population, ForkJoinPool pool) {
+        BatchSimulator[] simulators = new BatchSimulator[population.length];
+        for (int i = 0; i < population.length; i++) {
+            double[] weights = population[i];
+            simulators[i] = new BatchSimulator(
+                    gameSeed -> BoardFactory.create(new SeededBrickGenerator(gameSeed)),
+                    gameSeed -> new BeamSearchPolicy(new BeamSearch(new HeuristicEvaluator(weights), 1, 1, null), 1,
+                            SEARCH_BUDGET_NANOS),
+                    1);
+            simulators[i].setMaxPieces(maxPieces);
+        }
+        int[] scores = new int[population.length * games];
+        pool.submit(() -> IntStream.range(0, scores.length).parallel().forEach(task -> {
+            GameResult result = simulators[task / games]
+                    .playGame(SeededBrickGenerator.deriveSeed(seed, task % games));
+            scores[task] = result.getScore();
+        })).join();
+
+        double[] fitness = new double[population.length];
+        for (int task = 0; task < scores.length; task++) {
+            fitness[task / games] += scores[task];
+        }
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] /= games;
+        }
+        return fitness;
+    }
+
+    /**
+     * Orders candidates from best to worst fitness.
+     *
+     * @param fitness the fitness of each candidate.
+     * @return the candidate indices, best first.
+     */
+    private static Integer[] rank(double[] fitness) {
+        Integer[] order = new Integer[fitness.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+        return order;
+    }
+
+    /**
+     * Breeds the next generation from the best candidates.
+     *
+     * @param population the current candidates' weights.
+     * @param fitness    the fitness of each candidate.
+     * @param order      the candidate indices, best first.
+     * @param generation the index of the current generation.
+     * @return the next population.
+     */
+    private double[][] nextPopulation(double[][] population, double[] fitness, Integer[] order, int generation) {
+        SplittableRandom random = new SplittableRandom(SeededBrickGenerator.deriveSeed(seed, -1 - generation));
+        int survivors = Math.max(2, population.length / SURVIVOR_FRACTION);
+        double[][] next = new double[population.length][];
+        for (int i = 0; i < survivors; i++) {
+            next[i] = population[order[i]];
+        }
+        for (int i = survivors; i < next.length; i++) {
+            int a = order[random.nextInt(survivors)];
+            int b = order[random.nextInt(survivors)];
+            double fa = Math.max(fitness[a], 0) + 1;
+            double fb = Math.max(fitness[b], 0) + 1;
+            double[] child = new double[HeuristicEvaluator.FEATURE_COUNT];
+            for (int f = 0; f < child.length; f++) {
+                child[f] = (population[a][f] * fa + population[b][f] * fb) / (fa + fb);
+                if (random.nextDouble() < MUTATION_RATE) {
+                    child[f] += random.nextGaussian() * MUTATION_SCALE;
+                }
+            }
+            next[i] = normalize(child);
+        }
+        return next;
+    }
+
+    /**
+     * Scales a weight vector to unit length.
+     *
+     * @param weights the weights, modified in place.
+     * @return the same array.
+     */
+    private static double[] normalize(double[] weights) {
+        double length = 0;
+        for (double weight : weights) {
+            length += weight * weight;
+        }
+        length = Math.sqrt(length);
+        if (length > 0) {
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] /= length;
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Command-line entry point: tunes the weights and prints the best weights
+     * of every generation.
+     *
+     * @param args optional generation count, checkpoint file, population size,
+     *             games per candidate, worker count and seed.
+     * @throws IOException if the checkpoint cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        int generations = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        Path checkpoint = Paths.get(args.length > 1 ? args[1] : "weight-tuner.ckpt");
+        int population = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_POPULATION;
+        int games = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_GAMES;
+        int workers = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : 2042;
+        WeightTuner tuner = new WeightTuner(population, games, DEFAULT_MAX_PIECES, seed, workers);
+        TunerCheckpoint result = tuner.run(generations, checkpoint, System.out);
+        System.out.print(result.toSummary());
+    }
+}
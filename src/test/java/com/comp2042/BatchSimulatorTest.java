@@ -0,0 +1,91 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.sim.BatchSimulator;
+import com.comp2042.sim.GameResult;
+import com.comp2042.sim.RandomInputPolicy;
+import com.comp2042.sim.SimulationReport;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSimulatorTest {
+
+    private static final int GAMES = 12;
+    private static final long BASE_SEED = 2042;
+
+    /**
+     * Creates a simulator of short random games on two workers.
+     *
+     * @return the simulator.
+     */
+    private static BatchSimulator simulator() {
+        BatchSimulator simulator = new BatchSimulator(
+                seed -> BoardFactory.create(new SeededBrickGenerator(seed)), RandomInputPolicy::forGame, 2);
+        simulator.setMaxPieces(200);
+        return simulator;
+    }
+
+    @Test
+    void testSameBaseSeedSameReport() {
+        SimulationReport first = simulator().run(GAMES, BASE_SEED);
+        SimulationReport second = simulator().run(GAMES, BASE_SEED);
+
+        assertEquals(first.getGames(), second.getGames());
+        assertEquals(first.getTotalLines(), second.getTotalLines());
+        assertEquals(first.getTotalPieces(), second.getTotalPieces());
+        assertEquals(first.getToppedOut(), second.getToppedOut());
+        assertEquals(first.getMeanScore(), second.getMeanScore());
+        for (double percentile : new double[] {0, 50, 90, 100}) {
+            assertEquals(first.getScorePercentile(percentile), second.getScorePercentile(percentile));
+            assertEquals(first.getLengthPercentile(percentile), second.getLengthPercentile(percentile));
+        }
+    }
+
+    @Test
+    void testReportAggregatesGames() {
+        BatchSimulator simulator = simulator();
+        long lines = 0;
+        long pieces = 0;
+        long score = 0;
+        int toppedOut = 0;
+        for (int i = 0; i < GAMES; i++) {
+            GameResult result = simulator.playGame(SeededBrickGenerator.deriveSeed(BASE_SEED, i));
+            lines += result.getLines();
+            pieces += result.getPieces();
+            score += result.getScore();
+            toppedOut += result.isToppedOut() ? 1 : 0;
+        }
+
+        SimulationReport report = simulator.run(GAMES, BASE_SEED);
+
+        assertEquals(GAMES, report.getGames());
+        assertEquals(lines, report.getTotalLines());
+        assertEquals(pieces, report.getTotalPieces());
+        assertEquals(toppedOut, report.getToppedOut());
+        assertEquals((double) score / GAMES, report.getMeanScore(), 1e-9);
+        assertTrue(pieces > GAMES, "Every game should lock several bricks");
+    }
+
+    @Test
+    void testReportPercentiles() {
+        SimulationReport report = new SimulationReport(Arrays.asList(
+                new GameResult(300, 3, 30, 0, 0, true),
+                new GameResult(100, 1, 10, 0, 0, true),
+                new GameResult(200, 2, 20, 0, 0, false)), 1_000_000_000L);
+
+        assertEquals(3, report.getGames());
+        assertEquals(6, report.getTotalLines());
+        assertEquals(60, report.getTotalPieces());
+        assertEquals(2.0, report.getMeanLines());
+        assertEquals(200.0, report.getMeanScore());
+        assertEquals(2, report.getToppedOut());
+        assertEquals(100, report.getScorePercentile(0));
+        assertEquals(200, report.getScorePercentile(50));
+        assertEquals(300, report.getScorePercentile(100));
+        assertEquals(30, report.getLengthPercentile(100));
+        assertEquals(60.0, report.getPiecesPerSecond());
+    }
+}
@@ -0,0 +1,127 @@
+package com.comp2042;
+
+import com.comp2042.ai.AutoPlayer;
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.Hint;
+import com.comp2042.ai.HintEngine;
+import com.comp2042.ai.Plan;
+import com.comp2042.ai.SearchRoot;
+import com.comp2042.ai.HeuristicEvaluator;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.sim.BatchSimulator;
+import com.comp2042.sim.BeamSearchPolicy;
+import com.comp2042.sim.GameResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeamSearchTest {
+
+    private static final int PIECES = 300;
+
+    @Test
+    void testSearchFindsPlacementOnEmptyBoard() {
+        Board board = BoardFactory.create(new SeededBrickGenerator(2042));
+        board.createNewBrick();
+        BeamSearch search = new BeamSearch(new HeuristicEvaluator(), 8, 3, null);
+
+        Plan plan = search.search(SearchRoot.of(board, 3), System.nanoTime());
+
+        assertNotNull(plan);
+        assertTrue(plan.getDepth() >= 1, "First depth always completes");
+    }
+
+    @Test
+    void testInterruptAbandonsPooledSearch() {
+        Board board = BoardFactory.create(new SeededBrickGenerator(2042));
+        board.createNewBrick();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        Thread caller = Thread.currentThread();
+        HeuristicEvaluator heuristic = new HeuristicEvaluator();
+        // The first depth runs on the caller; interrupt it there so that the
+        // second depth, expanded on the pool, has to notice.
+        BeamSearch search = new BeamSearch((searchBoard, lines) -> {
+            if (Thread.currentThread() == caller) {
+                caller.interrupt();
+            }
+            return heuristic.evaluate(searchBoard, lines);
+        }, 8, 3, pool);
+
+        Plan plan;
+        try {
+            plan = search.search(SearchRoot.of(board, 3), Long.MAX_VALUE);
+        } finally {
+            Thread.interrupted();
+            pool.shutdown();
+        }
+
+        assertNotNull(plan);
+        assertEquals(1, plan.getDepth(), "Expansions on the pool must stop once the caller is interrupted");
+    }
+
+    @Test
+    void testPolicySurvivesAndClearsLines() {
+        BatchSimulator simulator = new BatchSimulator(
+                seed -> BoardFactory.create(new SeededBrickGenerator(seed)),
+                seed -> new BeamSearchPolicy(new BeamSearch(new HeuristicEvaluator(), 8, 3, null), 3,
+                        TimeUnit.SECONDS.toNanos(1)),
+                1);
+        simulator.setMaxPieces(PIECES);
+
+        GameResult result = simulator.playGame(2042);
+
+        assertEquals(PIECES, result.getPieces());
+        assertTrue(result.getLines() > PIECES * 4 / 10 - 5,
+                "Bot should clear nearly every row it fills, cleared " + result.getLines());
+    }
+
+    @Test
+    void testAutoPlayerPlaysOnGravityTicks() throws InterruptedException {
+        EngineInput input = new EngineInput(7);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        AutoPlayer player = new AutoPlayer(input, input.getEngine().getBoard(), new HeuristicEvaluator(), 8, 3, pool,
+                AutoPlayer.DEFAULT_BUDGET_NANOS);
+
+        while (input.getEngine().getPiecesPlaced() < 100) {
+            Thread.sleep(1);
+            player.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            assertFalse(input.getEngine().isGameOver());
+        }
+        player.stopGame();
+
+        assertTrue(input.getEngine().getLinesCleared() > 0);
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    void testHintEngineAnswersLatestInput() throws InterruptedException {
+        EngineInput input = new EngineInput(7);
+        HintEngine hints = new HintEngine(input, input.getEngine().getBoard());
+        Semaphore published = new Semaphore(0);
+        hints.setOnHint(published::release);
+        assertNull(hints.getHint(), "Hints are off by default");
+
+        hints.setEnabled(true);
+        assertTrue(published.tryAcquire(5, TimeUnit.SECONDS));
+        Hint first = hints.getHint();
+        assertNotNull(first);
+        if (!first.isHold()) {
+            assertEquals(input.getEngine().getBoard().snapshot().getPieceId(), first.getPieceId());
+        }
+
+        hints.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+        assertNull(hints.getHint(), "A hint for an earlier input must not be shown");
+        assertTrue(published.tryAcquire(5, TimeUnit.SECONDS));
+        Hint second = hints.getHint();
+        assertNotNull(second);
+        assertTrue(second.getRequest() > first.getRequest());
+
+        hints.setEnabled(false);
+        assertNull(hints.getHint());
+        hints.stopGame();
+    }
+}
@@ -0,0 +1,146 @@
+package com.comp2042;
+
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.HeuristicEvaluator;
+import com.comp2042.ai.Plan;
+import com.comp2042.ai.SearchRoot;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+
+    private static final int MOVES = 20_000;
+
+    /**
+     * Asserts that two boards show the same cells, brick, ghost and previews.
+     *
+     * @param expected the reference board.
+     * @param actual   the board under test.
+     * @param move     the number of the move just played.
+     */
+    private static void assertSameState(Board expected, Board actual, int move) {
+        assertArrayEquals(expected.getBoardMatrix(), actual.getBoardMatrix(), "board after move " + move);
+        ViewData expectedView = expected.getViewData();
+        ViewData actualView = actual.getViewData();
+        assertEquals(expectedView.getxPosition(), actualView.getxPosition(), "x after move " + move);
+        assertEquals(expectedView.getyPosition(), actualView.getyPosition(), "y after move " + move);
+        assertEquals(expectedView.getGhostY(), actualView.getGhostY(), "ghost y after move " + move);
+        assertEquals(expectedView.getBrickStamp(), actualView.getBrickStamp(), "brick after move " + move);
+        assertEquals(expectedView.getPreviewStamp(), actualView.getPreviewStamp(), "previews after move " + move);
+        assertEquals(expected.getScore().getValue(), actual.getScore().getValue(), "score after move " + move);
+    }
+
+    /**
+     * Locks the brick on both boards and asserts that they clear the same
+     * rows and spawn the next brick alike.
+     *
+     * @param expected the reference board.
+     * @param actual   the board under test.
+     * @param move     the number of the move just played.
+     * @return the number of rows cleared.
+     */
+    private static int lockBoth(Board expected, Board actual, int move) {
+        expected.lockBrickToBoard();
+        actual.lockBrickToBoard();
+        ClearRow expectedClear = expected.clearRows();
+        ClearRow actualClear = actual.clearRows();
+        assertEquals(expectedClear.getLinesRemoved(), actualClear.getLinesRemoved(), "lines at move " + move);
+        assertEquals(expectedClear.getScoreBonus(), actualClear.getScoreBonus(), "bonus at move " + move);
+        assertEquals(expectedClear.getClearedRows(), actualClear.getClearedRows(), "cleared rows at move " + move);
+        assertArrayEquals(expectedClear.getNewMatrix(), actualClear.getNewMatrix(), "matrix at move " + move);
+        expected.getScore().add(expectedClear.getScoreBonus());
+        actual.getScore().add(actualClear.getScoreBonus());
+
+        boolean expectedOver = expected.createNewBrick();
+        assertEquals(expectedOver, actual.createNewBrick(), "game over at move " + move);
+        if (expectedOver) {
+            expected.newGame();
+            actual.newGame();
+        }
+        return expectedClear.getLinesRemoved();
+    }
+
+    /**
+     * Picks the next move towards a planned placement: hold if planned, then
+     * rotate, then shift, then drop.
+     *
+     * @param board the board.
+     * @param plan  the placement to steer to.
+     * @param held  whether the brick has already been held.
+     * @return the move, numbered as in the random moves.
+     */
+    private static int steer(Board board, Plan plan, boolean held) {
+        ViewData view = board.getViewData();
+        if (plan.isHold() && !held) {
+            return 4;
+        }
+        if (view.getBrickShape().getRotation() != plan.getRotation()) {
+            return 2;
+        }
+        if (view.getxPosition() != plan.getX()) {
+            return view.getxPosition() > plan.getX() ? 0 : 1;
+        }
+        return 6;
+    }
+
+    @Test
+    void testMatchesSimpleBoardOnSeededMoves() {
+        Board expected = new SimpleBoard(new SeededBrickGenerator(2042));
+        Board actual = new BitBoard(new SeededBrickGenerator(2042));
+        expected.createNewBrick();
+        actual.createNewBrick();
+        SplittableRandom random = new SplittableRandom(1);
+        // Half of the bricks are steered to a bot's placement so rows fill
+        // and clear; the rest are moved at random.
+        BeamSearch search = new BeamSearch(new HeuristicEvaluator(), 4, 1, null);
+        Plan plan = null;
+        boolean held = false;
+        int lines = 0;
+
+        for (int move = 0; move < MOVES; move++) {
+            int choice = plan != null ? steer(expected, plan, held) : random.nextInt(7);
+            boolean moved = true;
+            boolean locked = false;
+            switch (choice) {
+                case 0 -> {
+                    moved = expected.moveBrickLeft();
+                    assertEquals(moved, actual.moveBrickLeft(), "left at move " + move);
+                }
+                case 1 -> {
+                    moved = expected.moveBrickRight();
+                    assertEquals(moved, actual.moveBrickRight(), "right at move " + move);
+                }
+                case 2, 3 -> {
+                    moved = expected.rotateLeftBrick();
+                    assertEquals(moved, actual.rotateLeftBrick(), "rotate at move " + move);
+                }
+                case 4 -> {
+                    moved = expected.holdBrick();
+                    assertEquals(moved, actual.holdBrick(), "hold at move " + move);
+                    held = true;
+                }
+                case 5 -> {
+                    locked = !expected.moveBrickDown();
+                    assertEquals(!locked, actual.moveBrickDown(), "down at move " + move);
+                }
+                default -> {
+                    assertEquals(expected.dropBrick(), actual.dropBrick(), "drop at move " + move);
+                    locked = true;
+                }
+            }
+            if (locked) {
+                lines += lockBoth(expected, actual, move);
+                held = false;
+                plan = random.nextBoolean() ? search.search(SearchRoot.of(expected, 1), Long.MAX_VALUE) : null;
+            } else if (!moved) {
+                plan = null;
+            }
+            assertSameState(expected, actual, move);
+        }
+        assertTrue(lines > 0, "Row clears should be covered");
+    }
+}
@@ -0,0 +1,67 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class BoardAllocationTest {
+
+    private static final int WARMUP_MOVES = 20_000;
+    private static final int MEASURED_MOVES = 100_000;
+
+    // Steady-state moves must not allocate; the slack only covers the
+    // measurement calls themselves.
+    private static final double BYTES_PER_MOVE_BUDGET = 0.1;
+
+    @Test
+    void testSimpleBoardMovesDoNotAllocate() {
+        assertMovesWithinBudget(new SimpleBoard());
+    }
+
+    @Test
+    void testBitBoardMovesDoNotAllocate() {
+        assertMovesWithinBudget(new BitBoard());
+    }
+
+    private void assertMovesWithinBudget(Board board) {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean, "Allocation counters not available");
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported(), "Allocation counters not supported");
+        bean.setThreadAllocatedMemoryEnabled(true);
+
+        board.newGame();
+        runMoves(board, WARMUP_MOVES);
+
+        long threadId = Thread.currentThread().threadId();
+        long before = bean.getThreadAllocatedBytes(threadId);
+        runMoves(board, MEASURED_MOVES);
+        long after = bean.getThreadAllocatedBytes(threadId);
+
+        double bytesPerMove = (after - before) / (double) MEASURED_MOVES;
+        assertTrue(bytesPerMove <= BYTES_PER_MOVE_BUDGET,
+                "Move path allocated " + bytesPerMove + " bytes per move (budget " + BYTES_PER_MOVE_BUDGET + ")");
+    }
+
+    private void runMoves(Board board, int moves) {
+        for (int i = 0; i < moves; i++) {
+            switch (i % 4) {
+                case 0:
+                    board.moveBrickLeft();
+                    break;
+                case 1:
+                    board.rotateLeftBrick();
+                    break;
+                case 2:
+                    board.moveBrickRight();
+                    break;
+                default:
+                    board.moveBrickDown();
+                    break;
+            }
+        }
+    }
+}
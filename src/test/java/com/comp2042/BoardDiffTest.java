@@ -0,0 +1,70 @@
+package com.comp2042;
+
+import com.comp2042.render.BoardDiff;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardDiffTest {
+
+    private static final int ROWS = 25;
+    private static final int COLS = 10;
+    private static final int HIDDEN = 2;
+
+    @Test
+    void testFirstDiffReportsEveryVisibleCell() {
+        BoardDiff diff = new BoardDiff(ROWS, COLS, HIDDEN);
+
+        int changed = diff.diff(new int[ROWS][COLS], (row, col, color) -> assertTrue(row >= HIDDEN));
+
+        assertEquals((ROWS - HIDDEN) * COLS, changed);
+        assertEquals(0, diff.diff(new int[ROWS][COLS], (row, col, color) -> fail("Nothing changed")));
+    }
+
+    @Test
+    void testLockReportsOnlyBrickCells() {
+        int[][] board = new int[ROWS][COLS];
+        BoardDiff diff = new BoardDiff(ROWS, COLS, HIDDEN);
+        diff.diff(board, (row, col, color) -> { });
+
+        board[24][3] = 6;
+        board[24][4] = 6;
+        board[24][5] = 6;
+        board[23][4] = 6;
+        List<int[]> cells = new ArrayList<>();
+        int changed = diff.diff(board, (row, col, color) -> cells.add(new int[] {row, col, color}));
+
+        assertEquals(4, changed);
+        assertEquals(4, cells.size());
+        for (int[] cell : cells) {
+            assertEquals(6, cell[2]);
+            assertEquals(6, diff.get(cell[0], cell[1]));
+        }
+    }
+
+    @Test
+    void testClearReportsShiftedCells() {
+        int[][] board = new int[ROWS][COLS];
+        for (int col = 0; col < COLS - 1; col++) {
+            board[24][col] = 1;
+        }
+        board[23][0] = 2;
+        BoardDiff diff = new BoardDiff(ROWS, COLS, HIDDEN);
+        diff.diff(board, (row, col, color) -> { });
+
+        int[][] cleared = new int[ROWS][COLS];
+        cleared[24][0] = 2;
+        int changed = diff.diff(cleared, (row, col, color) -> { });
+
+        // Row 24 keeps column 0 (1 -> 2) and empties columns 1-8; row 23 loses column 0
+        assertEquals(10, changed);
+        assertEquals(2, diff.get(24, 0));
+        assertEquals(0, diff.get(23, 0));
+
+        diff.invalidate();
+        assertEquals(-1, diff.get(24, 0));
+    }
+}
@@ -0,0 +1,99 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.replay.ReplayPlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardSnapshotTest {
+
+    /**
+     * Applies random moves to a board and records a hash of its state after
+     * each one.
+     *
+     * @param board  the board to play on.
+     * @param random the source of the moves.
+     * @param moves  the number of moves.
+     * @return the state hash after each move.
+     */
+    private static long[] play(Board board, SplittableRandom random, int moves) {
+        long[] trace = new long[moves];
+        for (int i = 0; i < moves; i++) {
+            switch (random.nextInt(6)) {
+                case 0 -> board.moveBrickLeft();
+                case 1 -> board.moveBrickRight();
+                case 2 -> board.rotateLeftBrick();
+                case 3 -> board.holdBrick();
+                default -> {
+                    board.dropBrick();
+                    board.lockBrickToBoard();
+                    board.getScore().add(board.clearRows().getScoreBonus());
+                    if (board.createNewBrick()) {
+                        board.newGame();
+                    }
+                }
+            }
+            ViewData view = board.getViewData();
+            trace[i] = ReplayPlayer.boardHash(board.getBoardMatrix()) * 31 + view.getxPosition() * 131
+                    + view.getyPosition() * 17 + board.getScore().getValue()
+                    + (long) view.getNextBrickData()[1][1] * 7;
+        }
+        return trace;
+    }
+
+    /**
+     * Checks that restoring a snapshot replays the exact same game.
+     *
+     * @param factory creates the board engine under test.
+     */
+    private static void checkRestore(Function<SeededBrickGenerator, Board> factory) {
+        Board board = factory.apply(new SeededBrickGenerator(11));
+        board.createNewBrick();
+        play(board, new SplittableRandom(1), 300);
+
+        BoardSnapshot snapshot = board.snapshot();
+        long[] first = play(board, new SplittableRandom(5), 500);
+        board.restore(snapshot);
+        long[] second = play(board, new SplittableRandom(5), 500);
+        assertArrayEquals(first, second, "Restored board should continue identically");
+    }
+
+    @Test
+    void testSimpleBoardRestore() {
+        checkRestore(SimpleBoard::new);
+    }
+
+    @Test
+    void testBitBoardRestore() {
+        checkRestore(BitBoard::new);
+    }
+
+    @Test
+    void testSnapshotsShareUnchangedRows() {
+        SimpleBoard board = new SimpleBoard(new SeededBrickGenerator(3));
+        board.createNewBrick();
+        BoardSnapshot before = board.snapshot();
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        BoardSnapshot moved = board.snapshot();
+        assertSame(before.getPackedRows(), moved.getPackedRows(), "Moving a brick should not repack the rows");
+        assertNotEquals(before.getX(), moved.getX());
+
+        board.dropBrick();
+        board.lockBrickToBoard();
+        BoardSnapshot locked = board.snapshot();
+        assertNotSame(before.getPackedRows(), locked.getPackedRows(), "Locking a brick should repack the rows");
+
+        board.restore(before);
+        for (int[] row : board.getBoardMatrix()) {
+            for (int cell : row) {
+                assertEquals(0, cell, "Restoring should remove the locked brick");
+            }
+        }
+        assertEquals(before.getPieceId(), board.snapshot().getPieceId());
+    }
+}
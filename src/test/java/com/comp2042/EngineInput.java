@@ -0,0 +1,87 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Headless stand-in for GameController that routes input to an engine the
+ * same way: gravity ticks come from the THREAD source, key presses from USER,
+ * and every new game draws its brick seed from one seed sequence.
+ */
+final class EngineInput implements InputEventListener {
+
+    private final SplittableRandom seeds;
+    private final SeededBrickGenerator generator;
+    private final GameEngine engine;
+
+    /**
+     * Constructs a new EngineInput and starts the first game.
+     *
+     * @param seed the seed from which the seed of every game is drawn.
+     */
+    EngineInput(long seed) {
+        seeds = new SplittableRandom(seed);
+        generator = new SeededBrickGenerator(seeds.nextLong());
+        engine = new GameEngine(BoardFactory.create(generator));
+        engine.start();
+    }
+
+    /**
+     * Gets the engine the input is applied to.
+     *
+     * @return the engine.
+     */
+    GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Gets the brick generator seed of the current game.
+     *
+     * @return the seed.
+     */
+    long getSeed() {
+        return generator.getSeed();
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        return event.getEventSource() == EventSource.THREAD ? engine.tick() : engine.moveDown();
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        return engine.moveLeft();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        return engine.moveRight();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        return engine.rotate();
+    }
+
+    @Override
+    public DownData onDropEvent(MoveEvent event) {
+        return engine.hardDrop();
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        return engine.hold();
+    }
+
+    @Override
+    public void createNewGame() {
+        generator.reset(seeds.nextLong());
+        engine.newGame();
+    }
+
+    @Override
+    public void stopGame() {
+    }
+}
@@ -0,0 +1,74 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    private static class RecordingListener implements GameListener {
+        int boardChanges;
+        int lastScore = -1;
+        int lastLevel;
+        boolean gameOver;
+
+        @Override
+        public void onBoardChanged(int[][] boardMatrix) {
+            boardChanges++;
+        }
+
+        @Override
+        public void onScoreChanged(int score) {
+            lastScore = score;
+        }
+
+        @Override
+        public void onLevelChanged(int level, double gravityMillis) {
+            lastLevel = level;
+        }
+
+        @Override
+        public void onGameOver() {
+            gameOver = true;
+        }
+    }
+
+    @Test
+    void testHeadlessGameRunsToGameOver() {
+        GameEngine engine = new GameEngine(new SimpleBoard());
+        RecordingListener listener = new RecordingListener();
+        engine.addListener(listener);
+        engine.start();
+
+        // Dropping every brick in the spawn column tops out quickly
+        int drops = 0;
+        while (!engine.isGameOver() && drops < 1000) {
+            engine.hardDrop();
+            drops++;
+        }
+
+        assertTrue(engine.isGameOver(), "Stacking in one column should end the game");
+        assertTrue(listener.gameOver, "Listener should be told about game over");
+        assertEquals(drops, engine.getPiecesPlaced());
+        assertEquals(drops, listener.boardChanges, "Each lock should redraw the board");
+    }
+
+    @Test
+    void testNewGameResetsState() {
+        GameEngine engine = new GameEngine(new SimpleBoard());
+        RecordingListener listener = new RecordingListener();
+        engine.addListener(listener);
+        engine.start();
+        for (int i = 0; i < 50; i++) {
+            engine.tick();
+        }
+
+        engine.newGame();
+
+        assertFalse(engine.isGameOver());
+        assertEquals(0, engine.getTicks());
+        assertEquals(0, engine.getPiecesPlaced());
+        assertEquals(0, listener.lastScore);
+        assertEquals(1, listener.lastLevel);
+    }
+}
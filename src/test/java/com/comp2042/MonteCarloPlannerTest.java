@@ -0,0 +1,63 @@
+package com.comp2042;
+
+import com.comp2042.ai.HeuristicEvaluator;
+import com.comp2042.ai.MonteCarloPlanner;
+import com.comp2042.ai.Plan;
+import com.comp2042.ai.PlacementEnumerator;
+import com.comp2042.ai.SearchRoot;
+import com.comp2042.logic.bricks.GeneratorState;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloPlannerTest {
+
+    @Test
+    void testReseededStateKeepsQueue() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(2042);
+        GeneratorState state = generator.saveState();
+        int[] original = new int[state.getQueueSize() + 7];
+        for (int i = 0; i < original.length; i++) {
+            original[i] = generator.getBrick().getShapes().get(0).getPieceId();
+        }
+
+        generator.restoreState(state.withSeed(99));
+        boolean differs = false;
+        for (int i = 0; i < original.length; i++) {
+            int pieceId = generator.getBrick().getShapes().get(0).getPieceId();
+            if (i < state.getQueueSize()) {
+                assertEquals(original[i], pieceId, "Queued brick " + i);
+            } else {
+                differs |= original[i] != pieceId;
+            }
+        }
+        assertTrue(differs, "Bricks after the queue should come from the new seed");
+    }
+
+    @Test
+    void testPlansReachablePlacementWithinDeadline() {
+        Board board = BoardFactory.create(new SeededBrickGenerator(2042));
+        board.createNewBrick();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            MonteCarloPlanner planner = new MonteCarloPlanner(new HeuristicEvaluator(),
+                    MonteCarloPlanner.DEFAULT_ROLLOUT_LENGTH, pool);
+            long budget = TimeUnit.MILLISECONDS.toNanos(50);
+            long start = System.nanoTime();
+
+            Plan plan = planner.search(SearchRoot.of(board, 5), start + budget);
+
+            assertTrue(System.nanoTime() - start < budget * 10, "Search should stop near the deadline");
+            assertNotNull(plan);
+            assertFalse(plan.isHold());
+            assertTrue(new PlacementEnumerator().enumerate(board)
+                    .find(plan.getRotation(), plan.getX(), plan.getY()) >= 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.comp2042;
+
+import com.comp2042.ai.PlacementEnumerator;
+import com.comp2042.ai.Placements;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.logic.bricks.ShapeTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementEnumeratorTest {
+
+    private static final int SPAWN_X = 3;
+
+    /**
+     * Sets up a board with the given cells and active brick at the spawn
+     * position.
+     *
+     * @param matrix  the board cells.
+     * @param pieceId the id of the active brick.
+     * @return the board.
+     */
+    private static SimpleBoard boardWith(int[][] matrix, int pieceId) {
+        SimpleBoard board = new SimpleBoard(new SeededBrickGenerator(1));
+        board.createNewBrick();
+        board.restore(new BoardSnapshot(BoardSnapshot.pack(matrix), pieceId, 0, SPAWN_X, Constants.START_Y, 0,
+                false, board.snapshot().getGeneratorState(), 0));
+        return board;
+    }
+
+    /**
+     * Describes the cells covered by a brick as a string, for comparing
+     * placements.
+     *
+     * @param pieceId  the id of the brick.
+     * @param rotation the rotation index.
+     * @param x        the x-coordinate.
+     * @param y        the y-coordinate.
+     * @return the covered cells.
+     */
+    private static String cells(int pieceId, int rotation, int x, int y) {
+        PieceShape shape = ShapeTable.getShape(pieceId, rotation);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            sb.append(x + shape.getCellCol(i)).append(',').append(y + shape.getCellRow(i)).append(' ');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Checks that every placement's path, played on a board, ends at the
+     * placement, and that no two placements cover the same cells.
+     *
+     * @param matrix     the board cells.
+     * @param pieceId    the id of the active brick.
+     * @param placements the placements found for that board.
+     */
+    private static void checkPaths(int[][] matrix, int pieceId, Placements placements) {
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < placements.size(); i++) {
+            SimpleBoard board = boardWith(matrix, pieceId);
+            int length = placements.getPathLength(i);
+            for (int step = 0; step < length - 1; step++) {
+                boolean moved = switch (placements.getPathStep(i, step)) {
+                    case LEFT -> board.moveBrickLeft();
+                    case RIGHT -> board.moveBrickRight();
+                    case ROTATE -> board.rotateLeftBrick();
+                    case DOWN -> board.moveBrickDown();
+                    default -> false;
+                };
+                assertTrue(moved, "Step " + step + " of placement " + i + " should be possible");
+            }
+            assertEquals(EventType.DROP, placements.getPathStep(i, length - 1), "Paths end with a hard drop");
+            board.dropBrick();
+
+            BoardSnapshot end = board.snapshot();
+            assertEquals(placements.getX(i), end.getX());
+            assertEquals(placements.getY(i), end.getY());
+            assertEquals(placements.getRotation(i), end.getRotation());
+            assertTrue(seen.add(cells(pieceId, end.getRotation(), end.getX(), end.getY())),
+                    "Placement " + i + " duplicates the cells of another placement");
+        }
+    }
+
+    @Test
+    void testEmptyBoardPlacementCounts() {
+        int[] expected = { 0, 17, 34, 34, 9, 17, 34, 17 };
+        int[][] empty = new int[Constants.BOARD_HEIGHT][Constants.BOARD_WIDTH];
+        PlacementEnumerator enumerator = new PlacementEnumerator();
+        for (int pieceId = 1; pieceId <= ShapeTable.PIECE_COUNT; pieceId++) {
+            Placements placements = enumerator.enumerate(boardWith(empty, pieceId));
+            assertEquals(expected[pieceId], placements.size(), "Placements of piece " + pieceId);
+            checkPaths(empty, pieceId, placements);
+        }
+    }
+
+    @Test
+    void testFindsTuckUnderOverhang() {
+        int[][] matrix = new int[Constants.BOARD_HEIGHT][Constants.BOARD_WIDTH];
+        int roof = Constants.BOARD_HEIGHT - 3;
+        for (int x = 2; x < Constants.BOARD_WIDTH; x++) {
+            matrix[roof][x] = 1;
+        }
+        Placements placements = new PlacementEnumerator().enumerate(boardWith(matrix, ShapeTable.O));
+        checkPaths(matrix, ShapeTable.O, placements);
+
+        // The O brick fills shape cells (1,1)-(2,2): tucked into the far right
+        // corner below the roof
+        boolean tucked = false;
+        for (int i = 0; i < placements.size(); i++) {
+            if (placements.getX(i) == Constants.BOARD_WIDTH - 3 && placements.getY(i) == Constants.BOARD_HEIGHT - 3) {
+                tucked = true;
+            }
+        }
+        assertTrue(tucked, "Should slide the brick under the overhang");
+    }
+
+    @Test
+    void testPathsOnRandomBoards() {
+        SplittableRandom random = new SplittableRandom(14);
+        PlacementEnumerator enumerator = new PlacementEnumerator();
+        for (int round = 0; round < 30; round++) {
+            int[][] matrix = new int[Constants.BOARD_HEIGHT][Constants.BOARD_WIDTH];
+            for (int y = Constants.BOARD_HEIGHT / 2; y < Constants.BOARD_HEIGHT; y++) {
+                for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
+                    if (random.nextInt(10) < (y > Constants.BOARD_HEIGHT - 6 ? 7 : 2)) {
+                        matrix[y][x] = 1 + random.nextInt(ShapeTable.PIECE_COUNT);
+                    }
+                }
+            }
+            int pieceId = 1 + random.nextInt(ShapeTable.PIECE_COUNT);
+            checkPaths(matrix, pieceId, enumerator.enumerate(boardWith(matrix, pieceId)));
+        }
+    }
+}
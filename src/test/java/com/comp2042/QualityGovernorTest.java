@@ -0,0 +1,89 @@
+package com.comp2042;
+
+import com.comp2042.render.QualityGovernor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QualityGovernorTest {
+
+    private static final long BUDGET = QualityGovernor.DEFAULT_FRAME_BUDGET_NANOS;
+    private static final long SLOW = 2 * BUDGET;
+
+    private long now = 1;
+
+    /**
+     * Feeds a number of frame windows of the same frame time.
+     *
+     * @param governor the governor.
+     * @param windows  the number of windows.
+     * @param frame    the frame time in nanoseconds.
+     * @return the number of level changes.
+     */
+    private int run(QualityGovernor governor, int windows, long frame) {
+        int changes = 0;
+        for (int i = 0; i < windows * QualityGovernor.WINDOW_FRAMES; i++) {
+            now += frame;
+            if (governor.pulse(now)) {
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    @Test
+    void testSlowFramesStepDownOneLevelPerWindow() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        governor.pulse(now);
+
+        run(governor, 1, BUDGET);
+        assertEquals(QualityGovernor.FULL, governor.getLevel());
+
+        run(governor, 1, SLOW);
+        assertEquals(QualityGovernor.NO_SCANLINES, governor.getLevel());
+
+        run(governor, 5, SLOW);
+        assertEquals(QualityGovernor.MINIMAL, governor.getLevel());
+        assertEquals(3, governor.getChanges());
+    }
+
+    @Test
+    void testHeadroomRestoresSlowly() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        governor.pulse(now);
+        run(governor, 2, SLOW);
+        assertEquals(QualityGovernor.NO_GLOW, governor.getLevel());
+
+        run(governor, QualityGovernor.RESTORE_WINDOWS - 1, BUDGET / 2);
+        assertEquals(QualityGovernor.NO_GLOW, governor.getLevel());
+        run(governor, 1, BUDGET / 2);
+        assertEquals(QualityGovernor.NO_SCANLINES, governor.getLevel());
+        run(governor, QualityGovernor.RESTORE_WINDOWS, BUDGET / 2);
+        assertEquals(QualityGovernor.FULL, governor.getLevel());
+    }
+
+    @Test
+    void testFailedRestoreBacksOff() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        governor.pulse(now);
+        run(governor, 1, SLOW);
+        run(governor, QualityGovernor.RESTORE_WINDOWS, BUDGET / 2);
+        assertEquals(QualityGovernor.FULL, governor.getLevel());
+
+        run(governor, 1, SLOW);
+        assertEquals(QualityGovernor.NO_SCANLINES, governor.getLevel());
+        assertEquals(2 * QualityGovernor.RESTORE_WINDOWS, governor.getRestoreWindows());
+
+        run(governor, QualityGovernor.RESTORE_WINDOWS, BUDGET / 2);
+        assertEquals(QualityGovernor.NO_SCANLINES, governor.getLevel());
+    }
+
+    @Test
+    void testStallsAreIgnored() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        governor.pulse(now);
+
+        assertEquals(0, run(governor, 2, 1_000_000_000L));
+        assertEquals(QualityGovernor.FULL, governor.getLevel());
+    }
+}
@@ -0,0 +1,82 @@
+package com.comp2042;
+
+import com.comp2042.replay.RecordingInputListener;
+import com.comp2042.replay.ReplayGame;
+import com.comp2042.replay.ReplayPlayer;
+import com.comp2042.replay.ReplayReader;
+import com.comp2042.replay.ReplayResult;
+import com.comp2042.replay.ReplayWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayPlayerTest {
+
+    private static final EventType[] INPUTS = { EventType.LEFT, EventType.RIGHT, EventType.ROTATE,
+            EventType.DOWN, EventType.DROP, EventType.HOLD };
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Sends one random input or gravity tick, as the view would.
+     *
+     * @param listener the listener receiving the input.
+     * @param random   the source of randomness.
+     */
+    private static void sendInput(InputEventListener listener, SplittableRandom random) {
+        if (random.nextInt(4) == 0) {
+            listener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            return;
+        }
+        EventType type = INPUTS[random.nextInt(INPUTS.length)];
+        MoveEvent event = new MoveEvent(type, EventSource.USER);
+        switch (type) {
+            case LEFT -> listener.onLeftEvent(event);
+            case RIGHT -> listener.onRightEvent(event);
+            case ROTATE -> listener.onRotateEvent(event);
+            case DOWN -> listener.onDownEvent(event);
+            case DROP -> listener.onDropEvent(event);
+            case HOLD -> listener.onHoldEvent(event);
+        }
+    }
+
+    @Test
+    void testReplayReproducesRecordedGames() throws IOException {
+        Path file = tempDir.resolve("session.trpl");
+        EngineInput game = new EngineInput(99);
+        RecordingInputListener recorder = new RecordingInputListener(game, game::getSeed,
+                new ReplayWriter(file));
+        SplittableRandom random = new SplittableRandom(3);
+
+        List<Long> hashes = new ArrayList<>();
+        List<Integer> scores = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            if (round > 0) {
+                recorder.createNewGame();
+            }
+            for (int i = 0; i < 5000 && !game.getEngine().isGameOver(); i++) {
+                sendInput(recorder, random);
+            }
+            hashes.add(ReplayPlayer.boardHash(game.getEngine().getBoard().getBoardMatrix()));
+            scores.add(game.getEngine().getBoard().getScore().getValue());
+        }
+        recorder.stopGame();
+
+        List<ReplayGame> games = ReplayReader.read(file);
+        assertEquals(3, games.size());
+        ReplayPlayer player = new ReplayPlayer();
+        for (int i = 0; i < games.size(); i++) {
+            ReplayResult result = player.play(games.get(i));
+            assertEquals(hashes.get(i), result.getBoardHash(), "Board of game " + i + " should match");
+            assertEquals(scores.get(i), result.getScore(), "Score of game " + i + " should match");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.comp2042;
+
+import com.comp2042.replay.ReplayFormat;
+import com.comp2042.replay.ReplayGame;
+import com.comp2042.replay.ReplayReader;
+import com.comp2042.replay.ReplayWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testVarLongRoundTrip() {
+        long[] values = { 0, 1, 127, 128, 300, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE };
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        for (long value : values) {
+            ReplayFormat.putVarLong(buffer, value);
+        }
+        buffer.flip();
+        for (long value : values) {
+            assertEquals(value, ReplayFormat.getVarLong(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testWriteAndReadGames() throws IOException {
+        Path file = tempDir.resolve("games.trpl");
+        try (ReplayWriter writer = new ReplayWriter(file)) {
+            writer.startGame(-42L);
+            for (int i = 0; i < 2000; i++) {
+                writer.recordEvent(EventType.values()[i % EventType.values().length], EventSource.USER, i / 3);
+            }
+            writer.endGame(900);
+            writer.startGame(7L);
+            writer.recordEvent(EventType.DROP, EventSource.USER, 0);
+        }
+
+        // Short tick deltas should take two bytes per event
+        assertTrue(Files.size(file) < 2000 * 2 + 64, "Replay should be compact, was " + Files.size(file));
+
+        List<ReplayGame> games = ReplayReader.read(file);
+        assertEquals(2, games.size());
+
+        ReplayGame first = games.get(0);
+        assertEquals(-42L, first.getSeed());
+        assertEquals(2000, first.getEventCount());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(EventType.values()[i % EventType.values().length], first.getEventType(i));
+            assertEquals(EventSource.USER, first.getEventSource(i));
+            assertEquals(i / 3, first.getTick(i));
+        }
+        assertEquals(900, first.getEndTick());
+
+        ReplayGame second = games.get(1);
+        assertEquals(7L, second.getSeed());
+        assertEquals(1, second.getEventCount());
+        assertEquals(EventType.DROP, second.getEventType(0));
+        assertEquals(0, second.getEndTick(), "A game without an end record ends at its last event");
+    }
+
+    @Test
+    void testRejectsOtherFiles() throws IOException {
+        Path file = tempDir.resolve("other.bin");
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6 });
+        assertThrows(IOException.class, () -> ReplayReader.read(file));
+    }
+
+    @Test
+    void testRejectsRecordsAfterClose() throws IOException {
+        Path file = tempDir.resolve("closed.replay");
+        ReplayWriter writer = new ReplayWriter(file);
+        writer.startGame(1);
+        writer.close();
+
+        assertThrows(IllegalStateException.class, () -> writer.recordEvent(EventType.LEFT, EventSource.USER, 0));
+        assertThrows(IllegalStateException.class, () -> writer.endGame(0));
+        assertThrows(IllegalStateException.class, () -> writer.startGame(2));
+        assertEquals(1, ReplayReader.read(file).size());
+    }
+}
@@ -0,0 +1,62 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowClearerTest {
+
+    @Test
+    void testClearCompactsInPlace() {
+        int[][] matrix = new int[20][10];
+        int[] row19 = matrix[19];
+
+        // Rows 18 and 19 full, row 17 partially filled
+        for (int i = 0; i < 10; i++) {
+            matrix[19][i] = 1;
+            matrix[18][i] = 2;
+        }
+        matrix[17][0] = 3;
+
+        RowClearer clearer = new RowClearer(10, 20);
+        clearer.rebuild(matrix);
+
+        assertEquals(2, clearer.clear(matrix), "Should clear 2 full rows");
+        assertEquals(18, clearer.getClearedRow(0), "Cleared rows are reported top to bottom");
+        assertEquals(19, clearer.getClearedRow(1));
+
+        assertSame(row19, matrix[19], "Rows should be compacted inside the existing arrays");
+        assertEquals(3, matrix[19][0], "Partially filled row should shift down");
+        assertEquals(1, clearer.getRowFill(19), "Fill counts should shift with their rows");
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, matrix[18][i], "Rows above shifted content should be empty");
+        }
+    }
+
+    @Test
+    void testMatchesCheckRemoving() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 200; trial++) {
+            int[][] matrix = new int[25][10];
+            for (int row = 10; row < 25; row++) {
+                boolean full = random.nextInt(3) == 0;
+                for (int col = 0; col < 10; col++) {
+                    matrix[row][col] = full || random.nextBoolean() ? 1 + random.nextInt(7) : 0;
+                }
+            }
+            ClearRow expected = MatrixOperations.checkRemoving(matrix);
+
+            RowClearer clearer = new RowClearer(10, 25);
+            clearer.rebuild(matrix);
+            int lines = clearer.clear(matrix);
+
+            assertEquals(expected.getLinesRemoved(), lines);
+            for (int i = 0; i < lines; i++) {
+                assertEquals(expected.getClearedRows().get(i), clearer.getClearedRow(i));
+            }
+            assertArrayEquals(expected.getNewMatrix(), matrix);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.comp2042;
+
+import com.comp2042.ai.PlacementEnumerator;
+import com.comp2042.ai.Placements;
+import com.comp2042.ai.SearchBoard;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.ShapeTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchBoardTest {
+
+    /**
+     * Copies the rows of a search board.
+     *
+     * @param board the board.
+     * @return the row masks.
+     */
+    private static int[] rowsOf(SearchBoard board) {
+        int[] rows = new int[board.getHeight()];
+        for (int y = 0; y < rows.length; y++) {
+            rows[y] = board.getRow(y);
+        }
+        return rows;
+    }
+
+    /**
+     * Asserts that the incrementally kept features and hash match a fresh
+     * computation.
+     *
+     * @param board the board to check.
+     */
+    private static void assertFeaturesMatchRescan(SearchBoard board) {
+        SearchBoard fresh = new SearchBoard(rowsOf(board));
+        for (int x = 0; x < board.getWidth(); x++) {
+            assertEquals(fresh.getColumnHeight(x), board.getColumnHeight(x), "height of column " + x);
+        }
+        assertEquals(fresh.getAggregateHeight(), board.getAggregateHeight());
+        assertEquals(fresh.getBumpiness(), board.getBumpiness());
+        assertEquals(fresh.getHoles(), board.getHoles());
+        assertEquals(fresh.getRowTransitions(), board.getRowTransitions());
+        assertEquals(fresh.getColumnTransitions(), board.getColumnTransitions());
+        assertEquals(fresh.getWells(), board.getWells());
+        assertEquals(fresh.getHash(), board.getHash());
+    }
+
+    @Test
+    void testFeaturesOfKnownBoard() {
+        int[] rows = new int[Constants.BOARD_HEIGHT];
+        int bottom = rows.length - 1;
+        rows[bottom] = 0b1111111011;
+        rows[bottom - 1] = 0b0000000001;
+        SearchBoard board = new SearchBoard(rows);
+
+        assertEquals(2, board.getColumnHeight(0));
+        assertEquals(0, board.getColumnHeight(2));
+        assertEquals(2 + 1 + 7, board.getAggregateHeight());
+        assertEquals(0, board.getHoles());
+        assertEquals(1 + 1 + 1, board.getBumpiness());
+        assertEquals(2 + 2, board.getRowTransitions());
+        assertEquals(1, board.getWells());
+        assertEquals(1 + 8 + 1, board.getColumnTransitions());
+    }
+
+    @Test
+    void testClearUpdatesFeaturesOfColumnsAboveGaps() {
+        int[] rows = new int[Constants.BOARD_HEIGHT];
+        int bottom = rows.length - 1;
+        rows[bottom] = 0b1111111010;
+        rows[bottom - 1] = 0b1111111110;
+        rows[bottom - 2] = 0b0000000010;
+        SearchBoard board = new SearchBoard(rows);
+        PieceShape vertical = ShapeTable.getShape(ShapeTable.I, 0);
+        for (int rotation = 1; vertical.getMinCol() != vertical.getMaxCol(); rotation++) {
+            vertical = ShapeTable.getShape(ShapeTable.I, rotation);
+        }
+
+        // The I fills column 0 and completes only the second row, whose
+        // column 2 sits above a gap, so that column drops to the floor.
+        assertEquals(1, board.place(vertical, -vertical.getMinCol(), bottom - vertical.getMaxRow()));
+
+        assertEquals(3, board.getColumnHeight(0));
+        assertEquals(2, board.getColumnHeight(1));
+        assertEquals(0, board.getColumnHeight(2));
+        assertEquals(1, board.getColumnHeight(3));
+        assertFeaturesMatchRescan(board);
+    }
+
+    /**
+     * Finds the placement that locks lowest on the board, so random games
+     * still fill and clear rows.
+     *
+     * @param placements the placements.
+     * @return the index of the lowest placement.
+     */
+    private static int lowest(Placements placements) {
+        int best = 0;
+        for (int i = 1; i < placements.size(); i++) {
+            if (placements.getY(i) > placements.getY(best)) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Test
+    void testIncrementalFeaturesMatchRescan() {
+        SplittableRandom random = new SplittableRandom(16);
+        PlacementEnumerator enumerator = new PlacementEnumerator();
+        int clears = 0;
+        for (int game = 0; game < 20; game++) {
+            SearchBoard board = new SearchBoard(new int[Constants.BOARD_HEIGHT]);
+            for (int piece = 0; piece < 60; piece++) {
+                int pieceId = 1 + random.nextInt(ShapeTable.PIECE_COUNT);
+                Placements placements = enumerator.enumerate(rowsOf(board), pieceId, 0, 3, 0);
+                if (placements.size() == 0) {
+                    break;
+                }
+                int i = random.nextInt(placements.size());
+                if (random.nextBoolean()) {
+                    i = lowest(placements);
+                }
+                clears += board.place(ShapeTable.getShape(pieceId, placements.getRotation(i)), placements.getX(i),
+                        placements.getY(i));
+                assertFeaturesMatchRescan(board);
+            }
+        }
+        assertTrue(clears > 0, "Row clears should be covered");
+    }
+}
@@ -0,0 +1,64 @@
+package com.comp2042;
+
+import com.comp2042.ai.SearchBoard;
+import com.comp2042.ai.TranspositionTable;
+import com.comp2042.ai.Zobrist;
+import com.comp2042.logic.bricks.ShapeTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void testTransposedPlacementsHashEqually() {
+        SearchBoard first = new SearchBoard(new int[Constants.BOARD_HEIGHT]);
+        SearchBoard second = first.copy();
+        int bottom = Constants.BOARD_HEIGHT - 3;
+
+        first.place(ShapeTable.getShape(ShapeTable.O, 0), -1, bottom);
+        first.place(ShapeTable.getShape(ShapeTable.O, 0), 3, bottom);
+        second.place(ShapeTable.getShape(ShapeTable.O, 0), 3, bottom);
+        second.place(ShapeTable.getShape(ShapeTable.O, 0), -1, bottom);
+
+        assertEquals(first.getHash(), second.getHash());
+        assertNotEquals(Zobrist.stateKey(first.getHash(), ShapeTable.T, 0, 5, 0),
+                Zobrist.stateKey(first.getHash(), ShapeTable.T, ShapeTable.I, 5, 0));
+    }
+
+    @Test
+    void testStoresAndEvicts() {
+        TranspositionTable table = new TranspositionTable(2, 1);
+        assertTrue(Double.isNaN(table.get(42)));
+
+        table.put(42, 1.5);
+        assertEquals(1.5, table.get(42));
+
+        int capacity = table.getCapacity();
+        table.nextGeneration();
+        for (long key = 100; key < 100 + capacity * 4; key++) {
+            table.put(key, key);
+        }
+        assertTrue(Double.isNaN(table.get(42)), "Old generation should be evicted when buckets fill");
+        assertEquals(1, table.getHits());
+    }
+
+    @Test
+    void testConcurrentAccess() {
+        TranspositionTable table = new TranspositionTable(1 << 12, 8);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.submit(() -> IntStream.range(0, 100_000).parallel().forEach(i -> {
+                long key = (i % 1000 + 1) * 0x9E3779B97F4A7C15L;
+                table.put(key, i % 1000);
+                double value = table.get(key);
+                assertTrue(Double.isNaN(value) || value == i % 1000);
+            })).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewDataTest {
+
+    @Test
+    void testPrimitiveAccessorsMatchMatrixCopies() {
+        Board board = BoardFactory.create(new SeededBrickGenerator(3));
+        board.createNewBrick();
+        board.holdBrick();
+        ViewData view = board.getViewData();
+
+        int[][] brick = view.getBrickData();
+        assertEquals(brick.length, view.getBrickSize());
+        for (int i = 0; i < brick.length; i++) {
+            for (int j = 0; j < brick[i].length; j++) {
+                assertEquals(brick[i][j], view.getBrickCell(i, j));
+            }
+        }
+        assertArrayEquals(view.getNextBrickData(), view.getNextShape().toMatrix());
+        assertArrayEquals(view.getHeldBrickData(), view.getHeldShape().toMatrix());
+        assertSame(view.getBrickShape(), board.getViewData().getBrickShape(), "Shapes are shared, not copied");
+    }
+
+    @Test
+    void testStampsChangeOnlyWithContent() {
+        Board board = BoardFactory.create(new SeededBrickGenerator(3));
+        board.createNewBrick();
+        ViewData first = board.getViewData();
+
+        assertEquals(first.getBrickStamp(), board.getViewData().getBrickStamp());
+        assertEquals(first.getPreviewStamp(), board.getViewData().getPreviewStamp());
+
+        assertTrue(board.moveBrickLeft());
+        ViewData moved = board.getViewData();
+        assertNotEquals(first.getBrickStamp(), moved.getBrickStamp());
+        assertEquals(first.getPreviewStamp(), moved.getPreviewStamp());
+
+        assertTrue(board.holdBrick());
+        ViewData held = board.getViewData();
+        assertNotEquals(moved.getPreviewStamp(), held.getPreviewStamp());
+    }
+}
@@ -0,0 +1,67 @@
+package com.comp2042;
+
+import com.comp2042.ai.HeuristicEvaluator;
+import com.comp2042.sim.TunerCheckpoint;
+import com.comp2042.sim.WeightTuner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightTunerTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Creates a tuner small enough for a unit test.
+     *
+     * @return the tuner.
+     */
+    private static WeightTuner smallTuner() {
+        return new WeightTuner(4, 2, 30, 2042, 2);
+    }
+
+    @Test
+    void testCheckpointRoundTrip() throws IOException {
+        Path file = dir.resolve("round-trip.ckpt");
+        double[] best = { 12.5, -0.1, 0.2, 1.0 / 3, -4e-9, 5, 6, 7 };
+        TunerCheckpoint checkpoint = new TunerCheckpoint(3, new double[][] { { 0.1, 0.2 }, { Math.PI, -1 } },
+                List.of(best));
+        checkpoint.save(file);
+
+        TunerCheckpoint loaded = TunerCheckpoint.load(file);
+
+        assertEquals(3, loaded.getGeneration());
+        assertEquals(2, loaded.getPopulationSize());
+        assertArrayEquals(new double[] { Math.PI, -1 }, loaded.getCandidate(1));
+        assertArrayEquals(best, loaded.getHistory().get(0));
+    }
+
+    @Test
+    void testResumedRunMatchesUninterruptedRun() throws IOException {
+        PrintStream out = new PrintStream(new ByteArrayOutputStream());
+        Path straight = dir.resolve("straight.ckpt");
+        Path resumed = dir.resolve("resumed.ckpt");
+
+        TunerCheckpoint expected = smallTuner().run(2, straight, out);
+        smallTuner().run(1, resumed, out);
+        TunerCheckpoint actual = smallTuner().run(2, resumed, out);
+
+        assertEquals(2, actual.getGeneration());
+        assertEquals(2, actual.getHistory().size());
+        for (int g = 0; g < 2; g++) {
+            assertArrayEquals(expected.getHistory().get(g), actual.getHistory().get(g));
+            assertEquals(HeuristicEvaluator.FEATURE_COUNT + 1, actual.getHistory().get(g).length);
+        }
+        for (int i = 0; i < expected.getPopulationSize(); i++) {
+            assertArrayEquals(expected.getCandidate(i), actual.getCandidate(i));
+        }
+    }
+}